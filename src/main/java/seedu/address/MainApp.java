@@ -1,20 +1,27 @@
 package seedu.address;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
 import javafx.stage.Stage;
+import seedu.address.commons.core.AddressBookFormat;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -23,11 +30,14 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.PersonListExporter;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WriteBehindStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -45,9 +55,13 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected ExecutorService exportExecutor;
+
+    private long initStartNanos;
 
     @Override
     public void init() throws Exception {
+        initStartNanos = System.nanoTime();
         logger.info("=============================[ Initializing AddressBook ]===========================");
         super.init();
 
@@ -56,14 +70,19 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
+        storage = new WriteBehindStorage(new StorageManager(addressBookStorage, userPrefsStorage));
 
         initLogging(config);
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        exportExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Person list exporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        logic = new LogicManager(model, storage, new AddressBookParser(new PersonListExporter(exportExecutor)));
 
         ui = new UiManager(logic);
     }
@@ -93,6 +112,48 @@ public class MainApp extends Application {
         return new ModelManager(initialData, userPrefs);
     }
 
+    /**
+     * Returns an {@code AddressBookStorage} for the data file format chosen in {@code userPrefs}. <br>
+     * A binary data file is kept next to the json data file, with the same name but a different extension.
+     * If the binary data file is not found, it is converted once from the json data file, if there is one.
+     * If that conversion fails, the json data file keeps being used, so that its data is not hidden by the first save.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path filePath = userPrefs.getAddressBookFilePath();
+        if (userPrefs.getAddressBookFormat() == AddressBookFormat.JSON) {
+            return new JournaledAddressBookStorage(filePath);
+        }
+
+        String fileName = filePath.getFileName().toString();
+        String baseName = fileName.contains(".") ? fileName.substring(0, fileName.lastIndexOf('.')) : fileName;
+        Path jsonFilePath = filePath.resolveSibling(baseName + ".json");
+        Path binaryFilePath = filePath.resolveSibling(baseName + BinaryAddressBookStorage.FILE_EXTENSION);
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(binaryFilePath);
+        if (!FileUtil.isFileExists(binaryFilePath) && FileUtil.isFileExists(jsonFilePath)) {
+            try {
+                binaryStorage.convertFromJson(jsonFilePath);
+            } catch (DataConversionException | IOException e) {
+                logger.warning("Failed to convert " + jsonFilePath + " to the binary format, will keep using it "
+                        + StringUtil.getDetails(e));
+                deletePartialConversion(binaryFilePath);
+                return new JournaledAddressBookStorage(jsonFilePath);
+            }
+        }
+        return binaryStorage;
+    }
+
+    /**
+     * Deletes whatever a failed conversion left at {@code binaryFilePath}, so the conversion is tried again on the
+     * next launch.
+     */
+    private void deletePartialConversion(Path binaryFilePath) {
+        try {
+            Files.deleteIfExists(binaryFilePath);
+        } catch (IOException e) {
+            logger.warning("Failed to delete " + binaryFilePath + " " + StringUtil.getDetails(e));
+        }
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -169,11 +230,25 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
         ui.start(primaryStage);
+        logger.info("Main window shown " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - initStartNanos)
+                + "ms after initialization started");
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        }
+        exportExecutor.shutdown();
+        try {
+            exportExecutor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            logger.severe("Interrupted while waiting for exports to finish " + StringUtil.getDetails(e));
+            Thread.currentThread().interrupt();
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
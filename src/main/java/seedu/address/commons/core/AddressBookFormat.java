@@ -0,0 +1,11 @@
+package seedu.address.commons.core;
+
+/**
+ * The file formats in which the address book data can be stored.
+ */
+public enum AddressBookFormat {
+    /** Human-readable json file, with an append-only journal of recent changes. */
+    JSON,
+    /** Compact binary file that is faster to read and write than json. */
+    BINARY
+}
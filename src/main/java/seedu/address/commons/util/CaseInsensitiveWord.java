@@ -0,0 +1,103 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+/**
+ * A single word, prepared once so that sentences can be repeatedly checked for it, ignoring case.
+ * Checking a sentence scans it in place and does not allocate.
+ */
+public class CaseInsensitiveWord {
+
+    public static final String MESSAGE_EMPTY_WORD = "Word parameter cannot be empty";
+    public static final String MESSAGE_MULTIPLE_WORDS = "Word parameter should be a single word";
+
+    private final String word;
+
+    /**
+     * Constructs a {@code CaseInsensitiveWord} from {@code word}, ignoring leading and trailing spaces.
+     *
+     * @param word cannot be null, cannot be empty, must be a single word
+     */
+    public CaseInsensitiveWord(String word) {
+        requireNonNull(word);
+
+        String preppedWord = word.trim();
+        checkArgument(!preppedWord.isEmpty(), MESSAGE_EMPTY_WORD);
+        for (int i = 0; i < preppedWord.length(); i++) {
+            checkArgument(!isWhitespace(preppedWord.charAt(i)), MESSAGE_MULTIPLE_WORDS);
+        }
+        this.word = preppedWord;
+    }
+
+    /**
+     * Returns true if the {@code sentence} contains this word as a full word, ignoring case.
+     * Words in the sentence are separated by whitespace.
+     *
+     * @param sentence cannot be null
+     */
+    public boolean isContainedIn(String sentence) {
+        return hasMatchingWordIn(sentence, false);
+    }
+
+    /**
+     * Returns true if a word in {@code sentence} starts with this word, ignoring case.
+     * Words in the sentence are separated by whitespace.
+     *
+     * @param sentence cannot be null
+     */
+    public boolean isPrefixOfWordIn(String sentence) {
+        return hasMatchingWordIn(sentence, true);
+    }
+
+    /**
+     * Returns true if a word in {@code sentence} is this word, or starts with it if {@code allowLonger} is true.
+     */
+    private boolean hasMatchingWordIn(String sentence, boolean allowLonger) {
+        requireNonNull(sentence);
+
+        int length = sentence.length();
+        int wordStart = 0;
+        while (wordStart < length) {
+            if (isWhitespace(sentence.charAt(wordStart))) {
+                wordStart++;
+                continue;
+            }
+            int wordEnd = wordStart + 1;
+            while (wordEnd < length && !isWhitespace(sentence.charAt(wordEnd))) {
+                wordEnd++;
+            }
+            int wordLength = wordEnd - wordStart;
+            if ((wordLength == word.length() || allowLonger && wordLength > word.length())
+                    && sentence.regionMatches(true, wordStart, word, 0, word.length())) {
+                return true;
+            }
+            wordStart = wordEnd;
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if {@code c} is whitespace as matched by the regex {@code \s}.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    @Override
+    public String toString() {
+        return word;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof CaseInsensitiveWord // instanceof handles nulls
+                && word.equals(((CaseInsensitiveWord) other).word)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return word.hashCode();
+    }
+}
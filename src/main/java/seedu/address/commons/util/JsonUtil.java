@@ -3,6 +3,7 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,6 +12,9 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -32,6 +36,7 @@ public class JsonUtil {
 
     private static ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
             .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
+            .configure(SerializationFeature.FLUSH_AFTER_WRITE_VALUE, false)
             .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
             .setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
             .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
@@ -91,6 +96,53 @@ public class JsonUtil {
     }
 
 
+    /**
+     * Creates a {@code JsonParser} that reads the JSON file at {@code filePath} one token at a time, so that large
+     * files can be converted without holding their whole content in memory.
+     * Objects can be read from the parser with {@link JsonParser#readValueAs(Class)}.
+     * The caller is responsible for closing the parser, which also closes the file.
+     * @param filePath cannot be null.
+     */
+    public static JsonParser createJsonParser(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        return objectMapper.getFactory().createParser(Files.newInputStream(filePath));
+    }
+
+    /**
+     * Creates a {@code JsonGenerator} that writes pretty-printed JSON to the file at {@code filePath} as it is
+     * generated, so that large objects can be written without building their whole content in memory.
+     * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * Objects can be written to the generator with {@link JsonGenerator#writeObject(Object)}.
+     * The caller is responsible for closing the generator, which also closes the file.
+     * @param filePath cannot be null.
+     */
+    public static JsonGenerator createJsonGenerator(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        return createJsonGenerator(Files.newOutputStream(filePath));
+    }
+
+    /**
+     * Similar to {@link #createJsonGenerator(Path)}, but writes to {@code out}.
+     * The caller is responsible for closing the generator, which also closes {@code out}.
+     * @param out cannot be null.
+     */
+    public static JsonGenerator createJsonGenerator(OutputStream out) throws IOException {
+        requireNonNull(out);
+        return objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8).useDefaultPrettyPrinter();
+    }
+
+    /**
+     * Creates a {@code JsonGenerator} that writes JSON lines to {@code out}: each object written with
+     * {@link JsonGenerator#writeObject(Object)} is compact, and the caller ends each line with
+     * {@link JsonGenerator#writeRaw(char)}. Nothing else is written between objects.
+     * The caller is responsible for closing the generator, which also closes {@code out}.
+     * @param out cannot be null.
+     */
+    public static JsonGenerator createJsonLinesGenerator(OutputStream out) throws IOException {
+        requireNonNull(out);
+        return objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8).setRootValueSeparator(null);
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      * @param <T> The generic type to create an instance of
@@ -110,6 +162,17 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation without any line breaks,
+     * e.g. for storing one object per line.
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return single-line JSON data representation of the given class instance, in string
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
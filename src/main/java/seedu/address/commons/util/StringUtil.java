@@ -1,11 +1,9 @@
 package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
-import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
-import java.util.Arrays;
 
 /**
  * Helper functions for handling strings.
@@ -22,20 +20,42 @@ public class StringUtil {
      *       </pre>
      * @param sentence cannot be null
      * @param word cannot be null, cannot be empty, must be a single word
+     * @see CaseInsensitiveWord
      */
     public static boolean containsWordIgnoreCase(String sentence, String word) {
         requireNonNull(sentence);
-        requireNonNull(word);
 
-        String preppedWord = word.trim();
-        checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
-        checkArgument(preppedWord.split("\\s+").length == 1, "Word parameter should be a single word");
+        return new CaseInsensitiveWord(word).isContainedIn(sentence);
+    }
 
-        String preppedSentence = sentence;
-        String[] wordsInPreppedSentence = preppedSentence.split("\\s+");
+    /**
+     * Returns true if {@code s} contains {@code part}, ignoring case.
+     * @throws NullPointerException if {@code s} or {@code part} is null.
+     */
+    public static boolean containsIgnoreCase(String s, String part) {
+        requireNonNull(s);
+        requireNonNull(part);
+        for (int i = 0; i + part.length() <= s.length(); i++) {
+            if (s.regionMatches(true, i, part, 0, part.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
 
-        return Arrays.stream(wordsInPreppedSentence)
-                .anyMatch(preppedWord::equalsIgnoreCase);
+    /**
+     * Returns {@code s} with every character mapped to a single representative of the characters that
+     * {@link String#equalsIgnoreCase(String)} considers equal to it, so that two strings are equal ignoring case
+     * exactly when their folded forms are equal.
+     * @throws NullPointerException if {@code s} is null.
+     */
+    public static String foldCase(String s) {
+        requireNonNull(s);
+        StringBuilder folded = new StringBuilder(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            folded.append(Character.toLowerCase(Character.toUpperCase(s.charAt(i))));
+        }
+        return folded.toString();
     }
 
     /**
@@ -0,0 +1,180 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.Model;
+import seedu.address.model.person.NameStartsWithKeywordsPredicate;
+import seedu.address.model.person.Person;
+
+/**
+ * Filters the person list of a {@code Model} while a {@code find} command is being typed, without executing it.
+ * As the last keyword may still be partly typed, the list shows the persons with a name word starting with any of the
+ * typed keywords. This includes every person the {@code find} command will show once it is executed.
+ * <p>
+ * Searching starts once the user pauses typing, and runs on a background thread so that typing stays responsive.
+ * A search is abandoned as soon as the user types again. When the new keywords can only narrow the previous matches,
+ * as when more of a keyword is typed or a keyword is deleted, only the previous matches are searched instead of the
+ * whole address book. As a person matching any keyword is shown, starting a new keyword widens the matches, so the
+ * whole address book is searched once for it.
+ * <p>
+ * The list shown before the preview started is restored once the command box no longer holds a {@code find} command.
+ * <p>
+ * All methods must be called on the thread owning the model, which is also the thread {@code uiExecutor} runs on.
+ */
+public class FindAsYouType {
+
+    public static final long DEFAULT_DEBOUNCE_MILLIS = 150;
+
+    /** Number of persons searched between checks for whether the search has been superseded. */
+    private static final int CANCELLATION_CHECK_INTERVAL = 1024;
+
+    private static final Pattern FIND_COMMAND_FORMAT =
+            Pattern.compile("\\s*" + FindCommand.COMMAND_WORD + "\\s+(?<keywords>[^-/()\\s][^/()]*)");
+
+    private final Model model;
+    private final Executor uiExecutor;
+    private final long debounceMillis;
+    private final ScheduledExecutorService searcher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Find as you type");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Number of the latest search requested. Searches with another number have been superseded. */
+    private final AtomicLong latestSearch = new AtomicLong();
+    private ScheduledFuture<?> pendingSearch;
+
+    private List<Person> snapshot;
+    private long snapshotModificationCount;
+    private NameStartsWithKeywordsPredicate shownPredicate;
+    private List<Person> shownMatches;
+    /** Filter and order of the person list before the first preview was shown, valid while one is shown. */
+    private Predicate<? super Person> previousPredicate;
+    private Comparator<? super Person> previousComparator;
+
+    /**
+     * Creates a {@code FindAsYouType} that filters the person list of {@code model}, publishing search results
+     * through {@code uiExecutor} once typing has paused for {@code debounceMillis}.
+     */
+    public FindAsYouType(Model model, Executor uiExecutor, long debounceMillis) {
+        requireNonNull(model);
+        requireNonNull(uiExecutor);
+        this.model = model;
+        this.uiExecutor = uiExecutor;
+        this.debounceMillis = debounceMillis;
+    }
+
+    /**
+     * Updates the person list for the partially typed {@code commandText}.
+     * If {@code commandText} is no longer a {@code find} command with keywords, any list shown for an earlier
+     * {@code find} command being typed is replaced by the list shown before it.
+     */
+    public void update(String commandText) {
+        requireNonNull(commandText);
+        cancelPendingSearch();
+
+        Matcher matcher = FIND_COMMAND_FORMAT.matcher(commandText);
+        if (!matcher.matches()) {
+            if (shownPredicate != null) {
+                model.setFilteredPersonList(previousPredicate, previousComparator);
+                reset();
+            }
+            return;
+        }
+
+        NameStartsWithKeywordsPredicate predicate = new NameStartsWithKeywordsPredicate(
+                Arrays.asList(matcher.group("keywords").trim().split("\\s+")));
+        List<Person> candidates = shownPredicate != null && shownPredicate.isNarrowedBy(predicate)
+                ? shownMatches
+                : getSnapshot();
+        long search = latestSearch.get();
+        pendingSearch = searcher.schedule(() -> search(search, predicate, candidates),
+                debounceMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Abandons any search in progress, and leaves the person list as it is.
+     * Called when a command is executed, so that its results are not replaced by those of a search.
+     */
+    public void reset() {
+        cancelPendingSearch();
+        shownPredicate = null;
+        shownMatches = null;
+        previousPredicate = null;
+        previousComparator = null;
+    }
+
+    private void cancelPendingSearch() {
+        latestSearch.incrementAndGet();
+        if (pendingSearch != null) {
+            pendingSearch.cancel(false);
+            pendingSearch = null;
+        }
+    }
+
+    /**
+     * Returns a copy of the persons in the address book, reusing the last copy if the address book is unchanged.
+     * Persons are immutable, so the copy can be searched on another thread.
+     */
+    private List<Person> getSnapshot() {
+        long modificationCount = model.getAddressBookModificationCount();
+        if (snapshot == null || modificationCount != snapshotModificationCount) {
+            snapshot = new ArrayList<>(model.getAddressBook().getPersonList());
+            snapshotModificationCount = modificationCount;
+        }
+        return snapshot;
+    }
+
+    /**
+     * Finds the persons among {@code candidates} matched by {@code predicate} and publishes them, unless the search
+     * numbered {@code search} is superseded first. Runs on the background thread.
+     */
+    private void search(long search, NameStartsWithKeywordsPredicate predicate, List<Person> candidates) {
+        List<Person> matches = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            if (i % CANCELLATION_CHECK_INTERVAL == 0 && latestSearch.get() != search) {
+                return;
+            }
+            Person candidate = candidates.get(i);
+            if (predicate.test(candidate)) {
+                matches.add(candidate);
+            }
+        }
+        uiExecutor.execute(() -> show(search, predicate, matches));
+    }
+
+    /**
+     * Shows {@code matches} in the person list, unless the search numbered {@code search} has been superseded.
+     */
+    private void show(long search, NameStartsWithKeywordsPredicate predicate, List<Person> matches) {
+        if (latestSearch.get() != search) {
+            return;
+        }
+        if (shownPredicate == null) {
+            previousPredicate = model.getFilteredPersonListPredicate();
+            previousComparator = model.getFilteredPersonListComparator();
+        }
+        pendingSearch = null;
+        shownPredicate = predicate;
+        shownMatches = matches;
+        Set<Person> matchSet = new HashSet<>(matches);
+        model.updateFilteredPersonList(matchSet::contains);
+    }
+}
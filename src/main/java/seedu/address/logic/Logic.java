@@ -4,8 +4,11 @@ import java.nio.file.Path;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.Parser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
@@ -23,6 +26,30 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Previews the persons a partially typed {@code find} command would list, by filtering the person list in the
+     * background without executing the command. Other commands are not previewed.
+     * @param commandText The command typed by the user so far.
+     * @see FindAsYouType#update(String)
+     */
+    void previewCommand(String commandText);
+
+    /**
+     * Registers {@code parser} to parse the arguments of commands starting with {@code commandWord}, so that they
+     * can be executed like the built-in commands, including from files run with the {@code run} command.
+     * @throws IllegalArgumentException if {@code commandWord} is not a single word, or is already registered
+     * @see AddressBookParser#registerCommand(String, Parser)
+     */
+    void registerCommand(String commandWord, Parser<? extends Command> parser);
+
+    /**
+     * Registers {@code alias} as another command word for the command registered as {@code commandWord}.
+     * @throws IllegalArgumentException if {@code commandWord} is not registered, or {@code alias} is not a single
+     *     word or is already registered
+     * @see AddressBookParser#registerAlias(String, String)
+     */
+    void registerAlias(String alias, String commandWord);
+
     /**
      * Returns the AddressBook.
      *
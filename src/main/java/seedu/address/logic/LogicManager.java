@@ -1,9 +1,13 @@
 package seedu.address.logic;
 
-import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
@@ -11,6 +15,7 @@ import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.Parser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -27,31 +32,97 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final FindAsYouType findAsYouType;
+
+    /**
+     * Modification count of the address book when it was last written, or -1 if it has not been written yet.
+     * Saves may complete on a background thread, and only a successful write advances it.
+     */
+    private final AtomicLong savedModificationCount = new AtomicLong(-1);
+    private long savesAvoided;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, new AddressBookParser());
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, that parses commands with
+     * {@code addressBookParser}.
+     */
+    public LogicManager(Model model, Storage storage, AddressBookParser addressBookParser) {
         this.model = model;
         this.storage = storage;
-        addressBookParser = new AddressBookParser();
+        this.addressBookParser = addressBookParser;
+        findAsYouType = new FindAsYouType(model, Platform::runLater, FindAsYouType.DEFAULT_DEBOUNCE_MILLIS);
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
+        findAsYouType.reset();
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
+        long modificationCount = model.getAddressBookModificationCount();
+        if (modificationCount == savedModificationCount.get()) {
+            savesAvoided++;
+            logger.fine("Address book unchanged, skipped saving (" + savesAvoided + " saves avoided)");
+            return commandResult;
+        }
+
+        CompletableFuture<Void> saved = storage.saveAddressBookInBackground(model.getAddressBook());
+        if (saved.isCompletedExceptionally()) {
+            Throwable failure = getSaveFailure(saved);
+            throw new CommandException(FILE_OPS_ERROR_MESSAGE + failure, failure);
+        }
+
+        return commandResult.withBackgroundFeedback(saved.handle((unused, failure) -> {
+            if (failure != null) {
+                return Optional.of(FILE_OPS_ERROR_MESSAGE + unwrap(failure));
+            }
+            savedModificationCount.accumulateAndGet(modificationCount, Math::max);
+            return Optional.empty();
+        }));
+    }
+
+    private static Throwable getSaveFailure(CompletableFuture<Void> saved) {
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+            saved.join();
+        } catch (CompletionException ce) {
+            return unwrap(ce);
         }
+        throw new AssertionError("A save that completed exceptionally must have a failure");
+    }
 
-        return commandResult;
+    private static Throwable unwrap(Throwable failure) {
+        return failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+    }
+
+    @Override
+    public void previewCommand(String commandText) {
+        findAsYouType.update(commandText);
+    }
+
+    @Override
+    public void registerCommand(String commandWord, Parser<? extends Command> parser) {
+        addressBookParser.registerCommand(commandWord, parser);
+    }
+
+    @Override
+    public void registerAlias(String alias, String commandWord) {
+        addressBookParser.registerAlias(alias, commandWord);
+    }
+
+    /**
+     * Returns the number of commands after which saving was skipped because the address book was unchanged.
+     */
+    public long getSavesAvoided() {
+        return savesAvoided;
     }
 
     @Override
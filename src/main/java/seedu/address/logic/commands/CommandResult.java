@@ -3,6 +3,8 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Represents the result of a command execution.
@@ -17,13 +19,22 @@ public class CommandResult {
     /** The application should exit. */
     private final boolean exit;
 
+    /** Feedback to add once the work the command left running in the background has finished, if there is any. */
+    private final CompletableFuture<Optional<String>> backgroundFeedback;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
     public CommandResult(String feedbackToUser, boolean showHelp, boolean exit) {
+        this(feedbackToUser, showHelp, exit, CompletableFuture.completedFuture(Optional.empty()));
+    }
+
+    private CommandResult(String feedbackToUser, boolean showHelp, boolean exit,
+            CompletableFuture<Optional<String>> backgroundFeedback) {
         this.feedbackToUser = requireNonNull(feedbackToUser);
         this.showHelp = showHelp;
         this.exit = exit;
+        this.backgroundFeedback = requireNonNull(backgroundFeedback);
     }
 
     /**
@@ -46,6 +57,25 @@ public class CommandResult {
         return exit;
     }
 
+    /**
+     * Returns the feedback to add once the work the command left running in the background has finished.
+     * The future may complete on any thread, with an empty {@code Optional} if there is nothing to add.
+     */
+    public CompletableFuture<Optional<String>> getBackgroundFeedback() {
+        return backgroundFeedback;
+    }
+
+    /**
+     * Returns a copy of this result that also adds the feedback of {@code moreBackgroundFeedback} once it is ready.
+     */
+    public CommandResult withBackgroundFeedback(CompletableFuture<Optional<String>> moreBackgroundFeedback) {
+        requireNonNull(moreBackgroundFeedback);
+        return new CommandResult(feedbackToUser, showHelp, exit,
+                backgroundFeedback.thenCombine(moreBackgroundFeedback, (first, second) -> first.isEmpty()
+                        ? second
+                        : Optional.of(second.map(feedback -> first.get() + "\n" + feedback).orElse(first.get()))));
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
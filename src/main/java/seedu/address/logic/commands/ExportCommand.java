@@ -0,0 +1,108 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.storage.PersonListExporter;
+import seedu.address.storage.PersonListExporter.Format;
+
+/**
+ * Exports the persons in the displayed person list to a CSV or JSON lines file.
+ * The file is written in the background, so the address book can be used while a large list is exported. Whether
+ * the export succeeded is added to the feedback once it is done.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Exports the persons in the displayed list to a "
+            + "file. The format is chosen by the file extension: .csv for CSV, or .jsonl for one JSON object "
+            + "per line.\n"
+            + "Parameters: FILE\n"
+            + "Example: " + COMMAND_WORD + " data/friends.csv";
+
+    public static final String MESSAGE_SUCCESS = "Exporting %1$d persons to %2$s";
+    public static final String MESSAGE_NOT_WRITABLE = "Cannot write to %1$s";
+    public static final String MESSAGE_EXPORTED = "Exported %1$d persons to %2$s: %3$d bytes in %4$d ms "
+            + "(%5$d bytes/second)";
+    public static final String MESSAGE_EXPORT_FAILED = "Could not export persons to %1$s: %2$s";
+
+    private final Path file;
+    private final Format format;
+    private final PersonListExporter exporter;
+
+    /**
+     * Creates an ExportCommand to export the displayed persons to {@code file} in {@code format} with
+     * {@code exporter}.
+     */
+    public ExportCommand(Path file, Format format, PersonListExporter exporter) {
+        requireAllNonNull(file, format, exporter);
+        this.file = file;
+        this.format = format;
+        this.exporter = exporter;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!isWritable(file)) {
+            throw new CommandException(String.format(MESSAGE_NOT_WRITABLE, file));
+        }
+
+        List<Person> persons = new ArrayList<>(model.getFilteredPersonList());
+        long startNanos = System.nanoTime();
+        CompletableFuture<Optional<String>> exported = exporter.exportInBackground(persons, file, format)
+                .handle((bytesWritten, failure) -> {
+                    if (failure != null) {
+                        return Optional.of(String.format(MESSAGE_EXPORT_FAILED, file, unwrap(failure)));
+                    }
+                    long elapsedNanos = Math.max(1, System.nanoTime() - startNanos);
+                    return Optional.of(String.format(MESSAGE_EXPORTED, persons.size(), file, bytesWritten,
+                            TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                            bytesWritten * TimeUnit.SECONDS.toNanos(1) / elapsedNanos));
+                });
+        return new CommandResult(String.format(MESSAGE_SUCCESS, persons.size(), file))
+                .withBackgroundFeedback(exported);
+    }
+
+    /**
+     * Returns true if {@code file} is an existing file that can be written, or can be created in an existing
+     * directory.
+     */
+    private static boolean isWritable(Path file) {
+        if (Files.exists(file)) {
+            return !Files.isDirectory(file) && Files.isWritable(file);
+        }
+        Path directory = file.toAbsolutePath().getParent();
+        return directory != null && Files.isDirectory(directory) && Files.isWritable(directory);
+    }
+
+    private static Throwable unwrap(Throwable failure) {
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                ? failure.getCause()
+                : failure;
+        return cause instanceof UncheckedIOException ? cause.getCause() : cause;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ExportCommand // instanceof handles nulls
+                && file.equals(((ExportCommand) other).file)
+                && format.equals(((ExportCommand) other).format)
+                && exporter == ((ExportCommand) other).exporter); // state check
+    }
+}
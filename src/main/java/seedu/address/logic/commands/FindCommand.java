@@ -1,34 +1,94 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.Objects;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.PersonSearch;
+import seedu.address.model.person.query.PersonQuery;
 
 /**
  * Finds and lists all persons in address book whose name contains any of the argument keywords.
  * Keyword matching is case insensitive.
+ * With a search mode flag, lists the persons whose name, email, address or tags approximately match any of the
+ * keywords instead, best matches first.
+ * With field prefixes, lists the persons satisfying a query combining conditions on their fields instead.
  */
 public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
 
+    public static final String PREFIX_SEARCH_FLAG = "-p";
+    public static final String FUZZY_SEARCH_FLAG = "-f";
+
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "With " + PREFIX_SEARCH_FLAG + ", finds persons with a name, email, address or tag word starting with "
+            + "any of the keywords. With " + FUZZY_SEARCH_FLAG + ", finds persons with such a word that is "
+            + "a few typing mistakes away from any of the keywords. Best matches are listed first.\n"
+            + "Parameters: [" + PREFIX_SEARCH_FLAG + "|" + FUZZY_SEARCH_FLAG + "] KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_SEARCH_FLAG + " ali clem\n"
+            + "With field prefixes, finds persons satisfying a query on their fields instead. "
+            + PREFIX_NAME + "WORD matches a name word, " + PREFIX_PHONE + "DIGITS a phone number start, "
+            + PREFIX_EMAIL + "TEXT and " + PREFIX_ADDRESS + "TEXT part of an email or address, and "
+            + PREFIX_TAG + "TAG a tag. Conditions can be combined with AND, OR, NOT and parentheses, "
+            + "and adjacent conditions must all hold.\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_TAG + "friends (" + PREFIX_ADDRESS + "clementi OR "
+            + PREFIX_PHONE + "9) NOT " + PREFIX_NAME + "alex";
 
     private final NameContainsKeywordsPredicate predicate;
+    private final PersonSearch search;
+    private final PersonQuery query;
 
+    /**
+     * Creates a FindCommand to find persons whose name contains any of the keywords of {@code predicate}.
+     */
     public FindCommand(NameContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
         this.predicate = predicate;
+        this.search = null;
+        this.query = null;
+    }
+
+    /**
+     * Creates a FindCommand to list the persons found by {@code search}, best matches first.
+     */
+    public FindCommand(PersonSearch search) {
+        requireNonNull(search);
+        this.predicate = null;
+        this.search = search;
+        this.query = null;
+    }
+
+    /**
+     * Creates a FindCommand to list the persons satisfying {@code query}.
+     */
+    public FindCommand(PersonQuery query) {
+        requireNonNull(query);
+        this.predicate = null;
+        this.search = null;
+        this.query = query;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        if (query != null) {
+            model.updateFilteredPersonListByQuery(query);
+        } else if (search != null) {
+            model.updateFilteredPersonListBySearch(search);
+        } else {
+            model.updateFilteredPersonListByName(predicate);
+        }
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
@@ -37,6 +97,8 @@ public class FindCommand extends Command {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindCommand // instanceof handles nulls
-                && predicate.equals(((FindCommand) other).predicate)); // state check
+                && Objects.equals(predicate, ((FindCommand) other).predicate)
+                && Objects.equals(search, ((FindCommand) other).search)
+                && Objects.equals(query, ((FindCommand) other).query)); // state check
     }
 }
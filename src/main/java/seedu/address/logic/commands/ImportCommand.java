@@ -0,0 +1,166 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.PersonRecordReader;
+import seedu.address.logic.parser.PersonRecordReader.Format;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * Imports the persons in a CSV or vCard file into the address book in a single change.
+ * The file is read one chunk of records at a time, and the records in each chunk are validated in parallel before
+ * the next chunk is read, so only one chunk of records is held at a time. A record is only kept once it is known to
+ * be a new person. Persons are added once the whole file is known to be valid, so that a file with an invalid record
+ * imports nobody. Persons who are already in the address book, or who occur earlier in the file, are skipped.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds the persons in a CSV or vCard file. "
+            + "A CSV file needs a header row with name, phone, email and address columns, and optionally a tags "
+            + "column with tags separated by semicolons. Persons already in the address book are skipped.\n"
+            + "Parameters: FILE\n"
+            + "Example: " + COMMAND_WORD + " data/contacts.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d persons from %2$s, skipped %3$d duplicates";
+    public static final String MESSAGE_THROUGHPUT = "Read %1$d records in %2$d ms (%3$d records/second)";
+    public static final String MESSAGE_READ_FAILED =
+            "Could not read persons from %1$s: %2$s\nNo persons were imported.";
+    public static final String MESSAGE_INVALID_RECORD = "Record %1$d: %2$s\nNo persons were imported.";
+
+    /** Number of records read and validated together. Progress is logged after each chunk. */
+    static final int VALIDATION_CHUNK_SIZE = 10_000;
+
+    private static final Logger logger = LogsCenter.getLogger(ImportCommand.class);
+
+    private final Path file;
+    private final Format format;
+
+    /**
+     * Creates an ImportCommand to add the persons in {@code file}, which is in {@code format}.
+     */
+    public ImportCommand(Path file, Format format) {
+        requireAllNonNull(file, format);
+        this.file = file;
+        this.format = format;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        long startNanos = System.nanoTime();
+
+        List<Person> newPersons = new ArrayList<>();
+        Set<Name> newNames = new HashSet<>();
+        List<ArgumentMultimap> chunk = new ArrayList<>();
+        int recordCount = 0;
+        try (BufferedReader reader = Files.newBufferedReader(file)) {
+            PersonRecordReader recordReader = PersonRecordReader.of(format, reader);
+            for (Optional<ArgumentMultimap> record = readRecord(recordReader, chunk, recordCount); record.isPresent();
+                    record = readRecord(recordReader, chunk, recordCount)) {
+                chunk.add(record.get());
+                if (chunk.size() == VALIDATION_CHUNK_SIZE) {
+                    keepNewPersons(model, validateChunk(chunk, recordCount), newPersons, newNames);
+                    recordCount += chunk.size();
+                    chunk.clear();
+                    logger.info("Read " + recordCount + " records from " + file);
+                }
+            }
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_READ_FAILED, file, ioe), ioe);
+        }
+        keepNewPersons(model, validateChunk(chunk, recordCount), newPersons, newNames);
+        recordCount += chunk.size();
+        if (!newPersons.isEmpty()) {
+            model.addPersons(newPersons);
+        }
+
+        int skipped = recordCount - newPersons.size();
+        long elapsedNanos = Math.max(1, System.nanoTime() - startNanos);
+        String throughput = String.format(MESSAGE_THROUGHPUT, recordCount,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), recordCount * TimeUnit.SECONDS.toNanos(1) / elapsedNanos);
+        logger.info("Imported " + newPersons.size() + " persons from " + file + ", skipped " + skipped + ". "
+                + throughput);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, newPersons.size(), file, skipped) + "\n"
+                + throughput);
+    }
+
+    /**
+     * Reads the record after {@code recordsBefore} validated records and the records in {@code chunk}.
+     * If the record is malformed, the records in {@code chunk} are validated first, so that the error reported is
+     * the one that validating the records one at a time, in order, would have run into first.
+     */
+    private static Optional<ArgumentMultimap> readRecord(PersonRecordReader recordReader,
+            List<ArgumentMultimap> chunk, int recordsBefore) throws IOException, CommandException {
+        try {
+            return recordReader.readRecord();
+        } catch (ParseException pe) {
+            validateChunk(chunk, recordsBefore);
+            throw new CommandException(String.format(MESSAGE_INVALID_RECORD, recordsBefore + chunk.size() + 1,
+                    pe.getMessage()), pe);
+        }
+    }
+
+    /**
+     * Validates the records in {@code chunk} in parallel, and returns them as persons, in order.
+     * @throws CommandException for the first invalid record, numbered after {@code recordsBefore} records.
+     */
+    private static Person[] validateChunk(List<ArgumentMultimap> chunk, int recordsBefore) throws CommandException {
+        Person[] persons = new Person[chunk.size()];
+        String[] errors = new String[chunk.size()];
+        IntStream.range(0, chunk.size()).parallel().forEach(i -> {
+            try {
+                persons[i] = PersonRecordReader.parsePerson(chunk.get(i));
+            } catch (ParseException pe) {
+                errors[i] = pe.getMessage();
+            }
+        });
+        for (int i = 0; i < errors.length; i++) {
+            if (errors[i] != null) {
+                throw new CommandException(String.format(MESSAGE_INVALID_RECORD, recordsBefore + i + 1, errors[i]));
+            }
+        }
+        return persons;
+    }
+
+    /**
+     * Appends to {@code newPersons} those of {@code persons} who are neither in {@code model} nor already in
+     * {@code newPersons}, whose names are in {@code newNames}.
+     */
+    private static void keepNewPersons(Model model, Person[] persons, List<Person> newPersons, Set<Name> newNames) {
+        for (Person person : persons) {
+            if (!model.hasPerson(person) && newNames.add(person.getName())) {
+                newPersons.add(person);
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportCommand // instanceof handles nulls
+                && file.equals(((ImportCommand) other).file)
+                && format.equals(((ImportCommand) other).format)); // state check
+    }
+}
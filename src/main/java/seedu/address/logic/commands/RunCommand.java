@@ -0,0 +1,119 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Runs the commands in a file as a single unit: either all of them take effect, or none do.
+ * The file is read one line at a time, and each command is parsed and run as soon as it is read. Commands run on a
+ * working copy of the address book, which replaces the address book in one change once every command has succeeded,
+ * so the displayed list is only refreshed once and is left untouched if any command fails.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs the commands in a file, one per line. "
+            + "If any command fails, none of them take effect. Blank lines and lines starting with "
+            + "# are ignored. Commands start from the full person list. Files cannot run other files or export.\n"
+            + "Parameters: FILE\n"
+            + "Example: " + COMMAND_WORD + " data/contacts.txt";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d commands from %2$s";
+    public static final String MESSAGE_THROUGHPUT = "in %1$d ms (%2$d commands/second)";
+    public static final String MESSAGE_COMMAND_FAILED = "Line %1$d: %2$s\nNo commands from the file were applied.";
+    public static final String MESSAGE_READ_FAILED =
+            "Could not read commands from %1$s: %2$s\nNo commands from the file were applied.";
+    public static final String MESSAGE_NESTED_RUN = "Files cannot run other files";
+    public static final String MESSAGE_EXPORT_IN_FILE = "Files cannot export, as an export cannot be undone";
+
+    private static final String COMMENT_START = "#";
+
+    private static final Logger logger = LogsCenter.getLogger(RunCommand.class);
+
+    private final Path file;
+    private final AddressBookParser addressBookParser;
+
+    /**
+     * Creates a RunCommand to run the commands in {@code file}, parsing them with {@code addressBookParser} so that
+     * the file can use the commands and aliases registered with it.
+     */
+    public RunCommand(Path file, AddressBookParser addressBookParser) {
+        requireAllNonNull(file, addressBookParser);
+        this.file = file;
+        this.addressBookParser = addressBookParser;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        long startNanos = System.nanoTime();
+
+        Model workingModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        int commandCount = 0;
+        int lineNumber = 0;
+        try (BufferedReader reader = Files.newBufferedReader(file)) {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                lineNumber++;
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith(COMMENT_START)) {
+                    continue;
+                }
+                runLine(workingModel, line);
+                commandCount++;
+            }
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_READ_FAILED, file, ioe), ioe);
+        } catch (ParseException | CommandException e) {
+            throw new CommandException(String.format(MESSAGE_COMMAND_FAILED, lineNumber, e.getMessage()), e);
+        } catch (RuntimeException re) {
+            // commands registered by others, and the model itself, may fail with unchecked exceptions
+            throw new CommandException(String.format(MESSAGE_COMMAND_FAILED, lineNumber, re), re);
+        }
+        model.setAddressBook(workingModel.getAddressBook());
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+
+        long elapsedNanos = Math.max(1, System.nanoTime() - startNanos);
+        long commandsPerSecond = commandCount * TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+        String throughput = String.format(MESSAGE_THROUGHPUT, TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                commandsPerSecond);
+        logger.info("Ran " + commandCount + " commands from " + file + " " + throughput);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, commandCount, file) + " " + throughput);
+    }
+
+    private void runLine(Model workingModel, String line) throws ParseException, CommandException {
+        Command command = addressBookParser.parseCommand(line);
+        // The parsed command is checked rather than the command word, so that aliases are also rejected
+        if (command instanceof RunCommand) {
+            throw new CommandException(MESSAGE_NESTED_RUN);
+        }
+        if (command instanceof ExportCommand) {
+            throw new CommandException(MESSAGE_EXPORT_IN_FILE);
+        }
+        command.execute(workingModel);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RunCommand // instanceof handles nulls
+                && file.equals(((RunCommand) other).file)
+                && addressBookParser == ((RunCommand) other).addressBookParser); // state check
+    }
+}
@@ -0,0 +1,41 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import seedu.address.model.Model;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Lists the tags in use in the address book, with the number of persons having each of them.
+ */
+public class TagsCommand extends Command {
+
+    public static final String COMMAND_WORD = "tags";
+
+    public static final String MESSAGE_SUCCESS = "Listed %1$d tags:\n%2$s";
+    public static final String MESSAGE_NO_TAGS = "No persons have tags";
+
+    /** Most used tags first, then tags in alphabetical order. */
+    private static final Comparator<Map.Entry<Tag, Integer>> TAG_COUNT_ORDER =
+            Map.Entry.<Tag, Integer>comparingByValue().reversed()
+                    .thenComparing(entry -> entry.getKey().tagName);
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        Map<Tag, Integer> tagCounts = model.getTagCounts();
+        if (tagCounts.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_TAGS);
+        }
+
+        String tagList = tagCounts.entrySet().stream()
+                .sorted(TAG_COUNT_ORDER)
+                .map(entry -> entry.getKey().tagName + ": " + entry.getValue())
+                .collect(Collectors.joining("\n"));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, tagCounts.size(), tagList));
+    }
+}
@@ -1,10 +1,11 @@
 package seedu.address.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.HashMap;
+import java.util.Map;
 
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.ClearCommand;
@@ -12,20 +13,95 @@ import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.FilterCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.TagsCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.storage.PersonListExporter;
 
 /**
  * Parses user input.
+ * The arguments of each command are parsed by the parser registered for its command word. Parsers are created once
+ * and reused, and further commands and aliases of command words can be registered.
  */
 public class AddressBookParser {
 
+    public static final String MESSAGE_INVALID_COMMAND_WORD = "Command word \"%1$s\" must be a single word";
+    public static final String MESSAGE_DUPLICATE_COMMAND_WORD = "Command word \"%1$s\" is already registered";
+    public static final String MESSAGE_UNREGISTERED_COMMAND_WORD = "Command word \"%1$s\" is not registered";
+
+    /** Parser of the arguments of each command, by command word. Aliases map to the same parser. */
+    private final Map<String, Parser<? extends Command>> parsersByCommandWord = new HashMap<>();
+
+    /**
+     * Creates an {@code AddressBookParser} that parses the built-in commands.
+     * Exports are written on the thread that executes the {@code export} command.
+     */
+    public AddressBookParser() {
+        this(new PersonListExporter(Runnable::run));
+    }
+
+    /**
+     * Creates an {@code AddressBookParser} that parses the built-in commands, and exports with {@code exporter}.
+     */
+    public AddressBookParser(PersonListExporter exporter) {
+        requireNonNull(exporter);
+        registerCommand(AddCommand.COMMAND_WORD, new AddCommandParser());
+        registerCommand(EditCommand.COMMAND_WORD, new EditCommandParser());
+        registerCommand(DeleteCommand.COMMAND_WORD, new DeleteCommandParser());
+        registerCommand(ClearCommand.COMMAND_WORD, arguments -> new ClearCommand());
+        registerCommand(FindCommand.COMMAND_WORD, new FindCommandParser());
+        registerCommand(FilterCommand.COMMAND_WORD, new FilterCommandParser());
+        registerCommand(ListCommand.COMMAND_WORD, arguments -> new ListCommand());
+        registerCommand(TagsCommand.COMMAND_WORD, arguments -> new TagsCommand());
+        registerCommand(RunCommand.COMMAND_WORD, new RunCommandParser(this));
+        registerCommand(ImportCommand.COMMAND_WORD, new ImportCommandParser());
+        registerCommand(ExportCommand.COMMAND_WORD, new ExportCommandParser(exporter));
+        registerCommand(ExitCommand.COMMAND_WORD, arguments -> new ExitCommand());
+        registerCommand(HelpCommand.COMMAND_WORD, arguments -> new HelpCommand());
+    }
+
+    /**
+     * Registers {@code parser} to parse the arguments of commands starting with {@code commandWord}.
+     * The same parser is used for every such command, so it must not keep any state between calls.
+     * @throws IllegalArgumentException if {@code commandWord} is not a single word, or is already registered
+     */
+    public void registerCommand(String commandWord, Parser<? extends Command> parser) {
+        requireNonNull(commandWord);
+        requireNonNull(parser);
+        if (commandWord.isEmpty() || findCommandWordEnd(commandWord) != commandWord.length()) {
+            throw new IllegalArgumentException(String.format(MESSAGE_INVALID_COMMAND_WORD, commandWord));
+        }
+        if (parsersByCommandWord.putIfAbsent(commandWord, parser) != null) {
+            throw new IllegalArgumentException(String.format(MESSAGE_DUPLICATE_COMMAND_WORD, commandWord));
+        }
+    }
+
+    /**
+     * Registers {@code alias} as another command word for the command registered as {@code commandWord}.
+     * @throws IllegalArgumentException if {@code commandWord} is not registered, or {@code alias} is not a single
+     *     word or is already registered
+     */
+    public void registerAlias(String alias, String commandWord) {
+        requireNonNull(commandWord);
+        Parser<? extends Command> parser = parsersByCommandWord.get(commandWord);
+        if (parser == null) {
+            throw new IllegalArgumentException(String.format(MESSAGE_UNREGISTERED_COMMAND_WORD, commandWord));
+        }
+        registerCommand(alias, parser);
+    }
+
     /**
-     * Used for initial separation of command word and args.
+     * Returns the parser registered for {@code commandWord}, or null if there is none.
      */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
+    Parser<? extends Command> getParser(String commandWord) {
+        return parsersByCommandWord.get(commandWord);
+    }
 
     /**
      * Parses user input into command for execution.
@@ -35,42 +111,30 @@ public class AddressBookParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
+        final String trimmedInput = userInput.trim();
+        final int commandWordEnd = findCommandWordEnd(trimmedInput);
+        if (commandWordEnd == 0) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
 
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
-        switch (commandWord) {
-
-        case AddCommand.COMMAND_WORD:
-            return new AddCommandParser().parse(arguments);
-
-        case EditCommand.COMMAND_WORD:
-            return new EditCommandParser().parse(arguments);
-
-        case DeleteCommand.COMMAND_WORD:
-            return new DeleteCommandParser().parse(arguments);
-
-        case ClearCommand.COMMAND_WORD:
-            return new ClearCommand();
-
-        case FindCommand.COMMAND_WORD:
-            return new FindCommandParser().parse(arguments);
-
-        case ListCommand.COMMAND_WORD:
-            return new ListCommand();
-
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
-
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand();
-
-        default:
+        final String commandWord = trimmedInput.substring(0, commandWordEnd);
+        final Parser<? extends Command> parser = getParser(commandWord);
+        if (parser == null) {
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
+        return parser.parse(trimmedInput.substring(commandWordEnd));
+    }
+
+    /**
+     * Returns the index of the first whitespace character in {@code input}, which ends the command word, or the
+     * length of {@code input} if it has no whitespace.
+     */
+    private static int findCommandWordEnd(String input) {
+        int end = 0;
+        while (end < input.length() && !Character.isWhitespace(input.charAt(end))) {
+            end++;
+        }
+        return end;
     }
 
 }
@@ -0,0 +1,158 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Reads persons from a CSV file, with a header row naming the {@code name}, {@code phone}, {@code email},
+ * {@code address} and optionally {@code tags} columns in any order. Other columns are ignored.
+ * Tags are separated by {@value #TAG_SEPARATOR}. Fields may be quoted as in RFC 4180, so that they can contain
+ * commas, quotes and line breaks.
+ */
+public class CsvPersonRecordReader implements PersonRecordReader {
+
+    public static final String MESSAGE_MISSING_HEADER = "The file has no header row";
+    public static final String MESSAGE_MISSING_COLUMN = "The header row has no %1$s column";
+    public static final String MESSAGE_UNTERMINATED_QUOTE = "A quoted field is not closed";
+
+    public static final String TAG_SEPARATOR = ";";
+
+    private static final String TAGS_COLUMN = "tags";
+
+    /** Prefix of each required column, by the column's name in the header row. */
+    private static final Map<String, Prefix> REQUIRED_COLUMNS = new LinkedHashMap<>();
+
+    static {
+        REQUIRED_COLUMNS.put("name", PREFIX_NAME);
+        REQUIRED_COLUMNS.put("phone", PREFIX_PHONE);
+        REQUIRED_COLUMNS.put("email", PREFIX_EMAIL);
+        REQUIRED_COLUMNS.put("address", PREFIX_ADDRESS);
+    }
+
+    private final BufferedReader reader;
+    private Map<Integer, Prefix> prefixesByColumn;
+    private int tagsColumn = -1;
+
+    /**
+     * Creates a {@code CsvPersonRecordReader} that reads from {@code reader}, starting with the header row.
+     */
+    public CsvPersonRecordReader(BufferedReader reader) {
+        requireNonNull(reader);
+        this.reader = reader;
+    }
+
+    @Override
+    public Optional<ArgumentMultimap> readRecord() throws IOException, ParseException {
+        if (prefixesByColumn == null) {
+            readHeader();
+        }
+
+        Optional<List<String>> fields = readFields();
+        if (fields.isEmpty()) {
+            return Optional.empty();
+        }
+
+        ArgumentMultimap record = new ArgumentMultimap();
+        List<String> values = fields.get();
+        for (Map.Entry<Integer, Prefix> column : prefixesByColumn.entrySet()) {
+            if (column.getKey() < values.size()) {
+                record.put(column.getValue(), values.get(column.getKey()));
+            }
+        }
+        if (tagsColumn != -1 && tagsColumn < values.size()) {
+            for (String tag : values.get(tagsColumn).split(TAG_SEPARATOR)) {
+                if (!tag.isBlank()) {
+                    record.put(PREFIX_TAG, tag);
+                }
+            }
+        }
+        return Optional.of(record);
+    }
+
+    /**
+     * Reads the header row, and finds the column of each field of a person.
+     */
+    private void readHeader() throws IOException, ParseException {
+        List<String> header = readFields().orElseThrow(() -> new ParseException(MESSAGE_MISSING_HEADER));
+        prefixesByColumn = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String column = header.get(i).trim().toLowerCase();
+            if (REQUIRED_COLUMNS.containsKey(column)) {
+                prefixesByColumn.putIfAbsent(i, REQUIRED_COLUMNS.get(column));
+            } else if (column.equals(TAGS_COLUMN)) {
+                tagsColumn = i;
+            }
+        }
+        for (Map.Entry<String, Prefix> column : REQUIRED_COLUMNS.entrySet()) {
+            if (!prefixesByColumn.containsValue(column.getValue())) {
+                throw new ParseException(String.format(MESSAGE_MISSING_COLUMN, column.getKey()));
+            }
+        }
+    }
+
+    /**
+     * Reads the fields of the next non-blank row, which spans several lines if a quoted field contains line breaks.
+     * Returns an empty {@code Optional} at the end of the file.
+     */
+    private Optional<List<String>> readFields() throws IOException, ParseException {
+        String line = reader.readLine();
+        while (line != null && line.isBlank()) {
+            line = reader.readLine();
+        }
+        if (line == null) {
+            return Optional.empty();
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean isQuoted = false;
+        while (true) {
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (isQuoted) {
+                    if (c != '"') {
+                        field.append(c);
+                    } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        isQuoted = false;
+                    }
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '"' && field.toString().isBlank()) {
+                    field.setLength(0);
+                    isQuoted = true;
+                } else {
+                    field.append(c);
+                }
+            }
+            if (!isQuoted) {
+                break;
+            }
+            line = reader.readLine();
+            if (line == null) {
+                throw new ParseException(MESSAGE_UNTERMINATED_QUOTE);
+            }
+            field.append('\n');
+        }
+        fields.add(field.toString());
+        return Optional.of(fields);
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.storage.PersonListExporter;
+import seedu.address.storage.PersonListExporter.Format;
+
+/**
+ * Parses input arguments and creates a new ExportCommand object
+ */
+public class ExportCommandParser implements Parser<ExportCommand> {
+
+    public static final String MESSAGE_INVALID_PATH = "Cannot export to %1$s: %2$s";
+    public static final String MESSAGE_UNSUPPORTED_FORMAT = "Only .csv and .jsonl files can be exported";
+
+    private final PersonListExporter exporter;
+
+    /**
+     * Creates an {@code ExportCommandParser} whose commands export with {@code exporter}.
+     */
+    public ExportCommandParser(PersonListExporter exporter) {
+        requireNonNull(exporter);
+        this.exporter = exporter;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportCommand
+     * and returns an ExportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ExportCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+
+        Path file;
+        try {
+            file = Paths.get(trimmedArgs);
+        } catch (InvalidPathException ipe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_PATH, trimmedArgs, ipe.getMessage()), ipe);
+        }
+        Format format = PersonListExporter.getFormat(file)
+                .orElseThrow(() -> new ParseException(MESSAGE_UNSUPPORTED_FORMAT));
+        return new ExportCommand(file, format, exporter);
+    }
+
+}
@@ -7,6 +7,7 @@ import java.util.Arrays;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.PersonSearch;
 
 /**
  * Parses input arguments and creates a new FindCommand object
@@ -25,9 +26,35 @@ public class FindCommandParser implements Parser<FindCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
-        String[] nameKeywords = trimmedArgs.split("\\s+");
+        if (PersonQueryParser.isQuery(trimmedArgs)) {
+            return new FindCommand(new PersonQueryParser().parse(trimmedArgs));
+        }
+
+        String[] keywords = trimmedArgs.split("\\s+");
+        PersonSearch.Mode searchMode = parseSearchMode(keywords[0]);
+        if (searchMode == null) {
+            return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(keywords)));
+        }
 
-        return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+        if (keywords.length == 1) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        return new FindCommand(new PersonSearch(searchMode, Arrays.asList(keywords).subList(1, keywords.length)));
+    }
+
+    /**
+     * Returns the search mode selected by {@code flag}, or null if {@code flag} is not a search mode flag.
+     */
+    private static PersonSearch.Mode parseSearchMode(String flag) {
+        switch (flag) {
+        case FindCommand.PREFIX_SEARCH_FLAG:
+            return PersonSearch.Mode.PREFIX;
+        case FindCommand.FUZZY_SEARCH_FLAG:
+            return PersonSearch.Mode.FUZZY;
+        default:
+            return null;
+        }
     }
 
 }
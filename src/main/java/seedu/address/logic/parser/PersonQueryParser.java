@@ -0,0 +1,166 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.util.ValidationUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.query.AndQuery;
+import seedu.address.model.person.query.FieldQuery;
+import seedu.address.model.person.query.NotQuery;
+import seedu.address.model.person.query.OrQuery;
+import seedu.address.model.person.query.PersonQuery;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Parses a query on the fields of persons, such as {@code t/friends (a/clementi OR p/9) NOT n/alex}.
+ * Conditions are field prefixes followed by a value without spaces or parentheses. They can be combined with
+ * {@code OR}, {@code AND} and {@code NOT}, from loosest to tightest binding, and grouped with parentheses.
+ * Adjacent conditions are combined with {@code AND}. Operators are case insensitive.
+ */
+public class PersonQueryParser {
+
+    public static final String MESSAGE_UNKNOWN_TERM = "Unknown query term: %1$s";
+    public static final String MESSAGE_EMPTY_VALUE = "Query term %1$s has no value";
+    public static final String MESSAGE_MISSING_TERM = "Query is missing a condition before or after an operator";
+    public static final String MESSAGE_UNBALANCED_PARENTHESES = "Query has unbalanced parentheses";
+    public static final String MESSAGE_INVALID_PHONE_PREFIX = "Phone numbers to find should only contain numbers";
+
+    private static final String OPERATOR_OR = "OR";
+    private static final String OPERATOR_AND = "AND";
+    private static final String OPERATOR_NOT = "NOT";
+    private static final String OPEN_PARENTHESIS = "(";
+    private static final String CLOSE_PARENTHESIS = ")";
+
+    private static final Prefix[] FIELD_PREFIXES = {PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS,
+        PREFIX_TAG};
+    private static final FieldQuery.Field[] FIELDS = {FieldQuery.Field.NAME, FieldQuery.Field.PHONE,
+        FieldQuery.Field.EMAIL, FieldQuery.Field.ADDRESS, FieldQuery.Field.TAG};
+
+    private String[] tokens;
+    private int position;
+
+    /**
+     * Returns true if {@code args} contains a field prefix, and so should be parsed as a query.
+     */
+    public static boolean isQuery(String args) {
+        for (String token : tokenize(args)) {
+            if (findFieldIndex(token) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Parses {@code args} into a {@code PersonQuery}.
+     * @throws ParseException if {@code args} is not a valid query.
+     */
+    public PersonQuery parse(String args) throws ParseException {
+        tokens = tokenize(args);
+        position = 0;
+        PersonQuery query = parseOr();
+        if (position < tokens.length) {
+            throw new ParseException(CLOSE_PARENTHESIS.equals(tokens[position])
+                    ? MESSAGE_UNBALANCED_PARENTHESES
+                    : String.format(MESSAGE_UNKNOWN_TERM, tokens[position]));
+        }
+        return query;
+    }
+
+    private PersonQuery parseOr() throws ParseException {
+        List<PersonQuery> queries = new ArrayList<>();
+        queries.add(parseAnd());
+        while (isNextToken(OPERATOR_OR)) {
+            position++;
+            queries.add(parseAnd());
+        }
+        return queries.size() == 1 ? queries.get(0) : new OrQuery(queries);
+    }
+
+    private PersonQuery parseAnd() throws ParseException {
+        List<PersonQuery> queries = new ArrayList<>();
+        queries.add(parseNot());
+        while (position < tokens.length && !isNextToken(OPERATOR_OR) && !isNextToken(CLOSE_PARENTHESIS)) {
+            if (isNextToken(OPERATOR_AND)) {
+                position++;
+            }
+            queries.add(parseNot());
+        }
+        return queries.size() == 1 ? queries.get(0) : new AndQuery(queries);
+    }
+
+    private PersonQuery parseNot() throws ParseException {
+        if (position >= tokens.length || isNextToken(OPERATOR_OR) || isNextToken(OPERATOR_AND)) {
+            throw new ParseException(MESSAGE_MISSING_TERM);
+        }
+
+        String token = tokens[position++];
+        if (token.equalsIgnoreCase(OPERATOR_NOT)) {
+            return new NotQuery(parseNot());
+        }
+        if (token.equals(OPEN_PARENTHESIS)) {
+            PersonQuery query = parseOr();
+            if (!isNextToken(CLOSE_PARENTHESIS)) {
+                throw new ParseException(MESSAGE_UNBALANCED_PARENTHESES);
+            }
+            position++;
+            return query;
+        }
+        if (token.equals(CLOSE_PARENTHESIS)) {
+            throw new ParseException(MESSAGE_UNBALANCED_PARENTHESES);
+        }
+        return parseCondition(token);
+    }
+
+    private static PersonQuery parseCondition(String token) throws ParseException {
+        int fieldIndex = findFieldIndex(token);
+        if (fieldIndex < 0) {
+            throw new ParseException(String.format(MESSAGE_UNKNOWN_TERM, token));
+        }
+
+        FieldQuery.Field field = FIELDS[fieldIndex];
+        String value = token.substring(FIELD_PREFIXES[fieldIndex].getPrefix().length());
+        if (value.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_EMPTY_VALUE, token));
+        }
+        if (field == FieldQuery.Field.PHONE && !ValidationUtil.isDigits(value, 1)) {
+            throw new ParseException(MESSAGE_INVALID_PHONE_PREFIX);
+        }
+        if (field == FieldQuery.Field.TAG && !Tag.isValidTagName(value)) {
+            throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
+        }
+        return new FieldQuery(field, value);
+    }
+
+    private boolean isNextToken(String operator) {
+        return position < tokens.length && tokens[position].equalsIgnoreCase(operator);
+    }
+
+    /**
+     * Returns the index of the field prefix {@code token} starts with, or -1 if there is none.
+     */
+    private static int findFieldIndex(String token) {
+        for (int i = 0; i < FIELD_PREFIXES.length; i++) {
+            if (token.startsWith(FIELD_PREFIXES[i].getPrefix())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Splits {@code args} into words, with each parenthesis as a separate word.
+     */
+    private static String[] tokenize(String args) {
+        String spaced = args.replace(OPEN_PARENTHESIS, " " + OPEN_PARENTHESIS + " ")
+                .replace(CLOSE_PARENTHESIS, " " + CLOSE_PARENTHESIS + " ").trim();
+        return spaced.isEmpty() ? new String[0] : spaced.split("\\s+");
+    }
+}
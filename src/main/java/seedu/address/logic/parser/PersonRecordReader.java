@@ -0,0 +1,90 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Reads the persons in a file of contacts one record at a time, as the arguments of an {@code add} command.
+ */
+public interface PersonRecordReader {
+
+    /**
+     * A format that persons can be imported from.
+     */
+    enum Format {
+        /** A header row naming the columns, followed by one row per person. */
+        CSV,
+        /** One card per person. */
+        VCARD
+    }
+
+    String MESSAGE_MISSING_FIELDS = "A person needs a name, phone, email and address";
+
+    /**
+     * Returns the format named by the extension of {@code file}: {@code .csv} for CSV, and {@code .vcf} or
+     * {@code .vcard} for vCard.
+     */
+    static Optional<Format> getFormat(Path file) {
+        requireNonNull(file);
+        String fileName = file.getFileName() == null ? "" : file.getFileName().toString().toLowerCase();
+        if (fileName.endsWith(".csv")) {
+            return Optional.of(Format.CSV);
+        } else if (fileName.endsWith(".vcf") || fileName.endsWith(".vcard")) {
+            return Optional.of(Format.VCARD);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns a {@code PersonRecordReader} that reads records in {@code format} from {@code reader}.
+     */
+    static PersonRecordReader of(Format format, BufferedReader reader) {
+        requireAllNonNull(format, reader);
+        return format == Format.CSV ? new CsvPersonRecordReader(reader) : new VCardPersonRecordReader(reader);
+    }
+
+    /**
+     * Reads the next record, or returns an empty {@code Optional} if there are no more records.
+     * @throws IOException if the file cannot be read
+     * @throws ParseException if the next record is malformed
+     */
+    Optional<ArgumentMultimap> readRecord() throws IOException, ParseException;
+
+    /**
+     * Parses {@code record} into a {@code Person} by the same rules as the {@code add} command.
+     * @throws ParseException if {@code record} is not a valid person
+     */
+    static Person parsePerson(ArgumentMultimap record) throws ParseException {
+        if (!Stream.of(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS)
+                .allMatch(prefix -> record.getValue(prefix).isPresent())) {
+            throw new ParseException(MESSAGE_MISSING_FIELDS);
+        }
+
+        Name name = ParserUtil.parseName(record.getValue(PREFIX_NAME).get());
+        Phone phone = ParserUtil.parsePhone(record.getValue(PREFIX_PHONE).get());
+        Email email = ParserUtil.parseEmail(record.getValue(PREFIX_EMAIL).get());
+        Address address = ParserUtil.parseAddress(record.getValue(PREFIX_ADDRESS).get());
+        Set<Tag> tagList = ParserUtil.parseTags(record.getAllValues(PREFIX_TAG));
+        return new Person(name, phone, email, address, tagList);
+    }
+}
@@ -0,0 +1,165 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Reads persons from a vCard file, with one {@code BEGIN:VCARD} ... {@code END:VCARD} block per person.
+ * The name is read from {@code FN}, and the phone, email and address from the first {@code TEL}, {@code EMAIL} and
+ * {@code ADR} of each card. Tags are read from {@code CATEGORIES}. Other properties are ignored.
+ * Phone numbers are reduced to their digits, and the components of an address are joined with commas.
+ */
+public class VCardPersonRecordReader implements PersonRecordReader {
+
+    public static final String MESSAGE_UNTERMINATED_CARD = "A card is not closed with END:VCARD";
+
+    private static final String BEGIN_CARD = "BEGIN:VCARD";
+    private static final String END_CARD = "END:VCARD";
+
+    private final BufferedReader reader;
+    private String nextLine;
+
+    /**
+     * Creates a {@code VCardPersonRecordReader} that reads from {@code reader}.
+     */
+    public VCardPersonRecordReader(BufferedReader reader) {
+        requireNonNull(reader);
+        this.reader = reader;
+    }
+
+    @Override
+    public Optional<ArgumentMultimap> readRecord() throws IOException, ParseException {
+        String line = readUnfoldedLine();
+        while (line != null && !line.equalsIgnoreCase(BEGIN_CARD)) {
+            line = readUnfoldedLine();
+        }
+        if (line == null) {
+            return Optional.empty();
+        }
+
+        ArgumentMultimap record = new ArgumentMultimap();
+        for (line = readUnfoldedLine(); line != null; line = readUnfoldedLine()) {
+            if (line.equalsIgnoreCase(END_CARD)) {
+                return Optional.of(record);
+            }
+            readProperty(line, record);
+        }
+        throw new ParseException(MESSAGE_UNTERMINATED_CARD);
+    }
+
+    /**
+     * Adds the person's field in the property on {@code line}, if any, to {@code record}.
+     */
+    private static void readProperty(String line, ArgumentMultimap record) {
+        int valueStart = line.indexOf(':');
+        if (valueStart == -1) {
+            return;
+        }
+        // the name may be preceded by a group and followed by parameters, as in "item1.TEL;TYPE=CELL"
+        String name = line.substring(0, valueStart).split(";", 2)[0];
+        name = name.substring(name.lastIndexOf('.') + 1).toUpperCase();
+        String value = line.substring(valueStart + 1);
+
+        switch (name) {
+        case "FN":
+            putFirst(record, PREFIX_NAME, unescape(value));
+            break;
+        case "TEL":
+            putFirst(record, PREFIX_PHONE, value.replaceAll("\\D", ""));
+            break;
+        case "EMAIL":
+            putFirst(record, PREFIX_EMAIL, unescape(value));
+            break;
+        case "ADR":
+            List<String> components = new ArrayList<>();
+            for (String component : splitUnescaped(value, ';')) {
+                if (!component.isBlank()) {
+                    components.add(component.trim());
+                }
+            }
+            putFirst(record, PREFIX_ADDRESS, String.join(", ", components));
+            break;
+        case "CATEGORIES":
+            for (String category : splitUnescaped(value, ',')) {
+                if (!category.isBlank()) {
+                    record.put(PREFIX_TAG, category);
+                }
+            }
+            break;
+        default:
+            break;
+        }
+    }
+
+    private static void putFirst(ArgumentMultimap record, Prefix prefix, String value) {
+        if (record.getValue(prefix).isEmpty()) {
+            record.put(prefix, value);
+        }
+    }
+
+    /**
+     * Splits {@code value} at each {@code separator} that is not escaped by a backslash, and unescapes each part.
+     */
+    private static List<String> splitUnescaped(String value, char separator) {
+        List<String> parts = new ArrayList<>();
+        int partStart = 0;
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) == '\\') {
+                i++;
+            } else if (value.charAt(i) == separator) {
+                parts.add(unescape(value.substring(partStart, i)));
+                partStart = i + 1;
+            }
+        }
+        parts.add(unescape(value.substring(partStart)));
+        return parts;
+    }
+
+    /**
+     * Replaces the escape sequences in a vCard {@code value}. Escaped line breaks are replaced by spaces, as no
+     * field of a person spans several lines.
+     */
+    private static String unescape(String value) {
+        StringBuilder unescaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                char escaped = value.charAt(++i);
+                unescaped.append(escaped == 'n' || escaped == 'N' ? ' ' : escaped);
+            } else {
+                unescaped.append(c);
+            }
+        }
+        return unescaped.toString();
+    }
+
+    /**
+     * Reads the next logical line, joining any continuation lines that start with a space or tab.
+     * Returns null at the end of the file.
+     */
+    private String readUnfoldedLine() throws IOException {
+        String line = nextLine != null ? nextLine : reader.readLine();
+        if (line == null) {
+            return null;
+        }
+        StringBuilder unfolded = new StringBuilder(line);
+        nextLine = reader.readLine();
+        while (nextLine != null && (nextLine.startsWith(" ") || nextLine.startsWith("\t"))) {
+            unfolded.append(nextLine, 1, nextLine.length());
+            nextLine = reader.readLine();
+        }
+        return unfolded.toString().trim();
+    }
+}
@@ -2,11 +2,21 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
+import seedu.address.model.person.NameTokenIndex;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIndex;
+import seedu.address.model.person.PersonSearch;
+import seedu.address.model.person.PersonSearchIndex;
+import seedu.address.model.person.PhoneIndex;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagIndex;
 
 /**
  * Wraps all data at the address-book level
@@ -15,6 +25,21 @@ import seedu.address.model.person.UniquePersonList;
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    private final NameTokenIndex nameTokenIndex;
+    private final PersonSearchIndex searchIndex;
+    private final PhoneIndex phoneIndex;
+    private final TagIndex tagIndex;
+    private final List<PersonIndex> indexes;
+
+    /**
+     * Whether the indexes hold the persons in the list. They are only built when a lookup first needs them, so copies
+     * that are never searched, such as those made for saving, do not pay for them. Once built, they are kept up to
+     * date with every change.
+     */
+    private boolean isIndexed;
+
+    /** Number of modifications made to the person list so far. */
+    private long modificationCount;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -25,6 +50,11 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     {
         persons = new UniquePersonList();
+        nameTokenIndex = new NameTokenIndex();
+        searchIndex = new PersonSearchIndex();
+        phoneIndex = new PhoneIndex();
+        tagIndex = new TagIndex();
+        indexes = List.of(nameTokenIndex, searchIndex, phoneIndex, tagIndex);
     }
 
     public AddressBook() {}
@@ -45,6 +75,12 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        if (isIndexed) {
+            for (PersonIndex index : indexes) {
+                index.setPersons(persons);
+            }
+        }
+        modificationCount++;
     }
 
     /**
@@ -72,6 +108,32 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        if (isIndexed) {
+            for (PersonIndex index : indexes) {
+                index.add(p);
+            }
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Adds {@code persons} to the address book as a single change.
+     * None of the persons may already exist in the address book, or occur more than once in {@code persons}.
+     * Nothing changes if {@code persons} is empty.
+     */
+    public void addPersons(List<Person> persons) {
+        if (persons.isEmpty()) {
+            return;
+        }
+        this.persons.addAll(persons);
+        if (isIndexed) {
+            for (PersonIndex index : indexes) {
+                for (Person p : persons) {
+                    index.add(p);
+                }
+            }
+        }
+        modificationCount++;
     }
 
     /**
@@ -83,6 +145,13 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        if (isIndexed) {
+            for (PersonIndex index : indexes) {
+                index.remove(target);
+                index.add(editedPerson);
+            }
+        }
+        modificationCount++;
     }
 
     /**
@@ -91,10 +160,111 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        if (isIndexed) {
+            for (PersonIndex index : indexes) {
+                index.remove(key);
+            }
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Returns the persons whose name contains any of {@code keywords} as a whole word, ignoring case.
+     */
+    public Set<Person> getPersonsWithNameKeywords(Collection<String> keywords) {
+        buildIndexes();
+        return nameTokenIndex.getPersonsWithAnyWord(keywords);
+    }
+
+    /**
+     * Returns the number of persons whose name contains {@code keyword} as a whole word, ignoring case.
+     */
+    public int countPersonsWithNameKeyword(String keyword) {
+        buildIndexes();
+        return nameTokenIndex.countPersonsWithWord(keyword);
+    }
+
+    /**
+     * Returns the persons whose phone number starts with {@code prefix}.
+     */
+    public Set<Person> getPersonsWithPhonePrefix(String prefix) {
+        buildIndexes();
+        return phoneIndex.getPersonsWithPhonePrefix(prefix);
+    }
+
+    /**
+     * Returns the number of persons whose phone number starts with {@code prefix}.
+     */
+    public int countPersonsWithPhonePrefix(String prefix) {
+        buildIndexes();
+        return phoneIndex.countPersonsWithPhonePrefix(prefix);
+    }
+
+    /**
+     * Returns the persons having {@code tag}.
+     */
+    public Set<Person> getPersonsWithTag(Tag tag) {
+        buildIndexes();
+        return tagIndex.getPersonsWithTag(tag);
+    }
+
+    /**
+     * Returns the number of persons having {@code tag}.
+     */
+    public int countPersonsWithTag(Tag tag) {
+        buildIndexes();
+        return tagIndex.countPersonsWithTag(tag);
+    }
+
+    /**
+     * Returns the persons having all of {@code tags}.
+     */
+    public Set<Person> getPersonsWithAllTags(Collection<Tag> tags) {
+        buildIndexes();
+        return tagIndex.getPersonsWithAllTags(tags);
+    }
+
+    /**
+     * Returns the number of persons having each tag in use.
+     */
+    public Map<Tag, Integer> getTagCounts() {
+        buildIndexes();
+        return tagIndex.getTagCounts();
+    }
+
+    /**
+     * Returns the persons found by {@code search}, each with a score of how well it matches. Higher scores are
+     * better matches.
+     */
+    public Map<Person, Integer> searchPersons(PersonSearch search) {
+        requireNonNull(search);
+        buildIndexes();
+        return searchIndex.search(search.getMode(), search.getKeywords());
+    }
+
+    /**
+     * Builds the indexes from the persons in the list, unless they have already been built.
+     */
+    private void buildIndexes() {
+        if (isIndexed) {
+            return;
+        }
+        for (PersonIndex index : indexes) {
+            index.setPersons(persons.asUnmodifiableObservableList());
+        }
+        isIndexed = true;
     }
 
     //// util methods
 
+    /**
+     * Returns the number of modifications made to this address book so far.
+     * The count changes whenever the person list is modified, so two equal counts mean the data is unchanged.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
     @Override
     public String toString() {
         return persons.asUnmodifiableObservableList().size() + " persons";
@@ -1,11 +1,19 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearch;
+import seedu.address.model.person.query.PersonQuery;
+import seedu.address.model.tag.Tag;
 
 /**
  * The API of the Model component.
@@ -52,6 +60,12 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the number of modifications made to the address book so far.
+     * Equal counts mean the address book data has not changed in between.
+     */
+    long getAddressBookModificationCount();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -69,6 +83,12 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Adds the given persons as a single change to the address book.
+     * None of {@code persons} may already exist in the address book, or occur more than once in {@code persons}.
+     */
+    void addPersons(List<Person> persons);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -84,4 +104,54 @@ public interface Model {
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
+
+    /**
+     * Returns the filter of the filtered person list, or null if every person is shown.
+     */
+    Predicate<? super Person> getFilteredPersonListPredicate();
+
+    /**
+     * Returns the order of the filtered person list, or null if persons are shown in address book order.
+     */
+    Comparator<? super Person> getFilteredPersonListComparator();
+
+    /**
+     * Sets both the filter and the order of the filtered person list, so that a list shown earlier can be restored
+     * from {@link #getFilteredPersonListPredicate()} and {@link #getFilteredPersonListComparator()}.
+     * Either may be null, as returned by those methods.
+     */
+    void setFilteredPersonList(Predicate<? super Person> predicate, Comparator<? super Person> comparator);
+
+    /**
+     * Updates the filter of the filtered person list to show the persons matched by the given {@code predicate}.
+     * Matching persons are looked up by the words in their names instead of testing every person.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void updateFilteredPersonListByName(NameContainsKeywordsPredicate predicate);
+
+    /**
+     * Updates the filtered person list to show the persons found by {@code search}, best matches first.
+     * The order is kept until the filter is next updated.
+     * @throws NullPointerException if {@code search} is null.
+     */
+    void updateFilteredPersonListBySearch(PersonSearch search);
+
+    /**
+     * Updates the filter of the filtered person list to show the persons satisfying {@code query}.
+     * Only the candidates found using the indexes of the address book are tested, if the query can use any.
+     * @throws NullPointerException if {@code query} is null.
+     */
+    void updateFilteredPersonListByQuery(PersonQuery query);
+
+    /**
+     * Updates the filter of the filtered person list to show the persons having all of {@code tags}.
+     * Matching persons are looked up by tag instead of testing every person.
+     * @throws NullPointerException if {@code tags} is null.
+     */
+    void updateFilteredPersonListByTags(Set<Tag> tags);
+
+    /**
+     * Returns the number of persons in the address book having each tag in use.
+     */
+    Map<Tag, Integer> getTagCounts();
 }
@@ -4,14 +4,24 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearch;
+import seedu.address.model.person.query.PersonQuery;
+import seedu.address.model.tag.Tag;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -22,6 +32,7 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final SortedList<Person> sortedPersons;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -35,6 +46,7 @@ public class ModelManager implements Model {
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        sortedPersons = new SortedList<>(filteredPersons);
     }
 
     public ModelManager() {
@@ -88,6 +100,11 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookModificationCount() {
+        return addressBook.getModificationCount();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -105,6 +122,12 @@ public class ModelManager implements Model {
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
+    @Override
+    public void addPersons(List<Person> persons) {
+        addressBook.addPersons(persons);
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
@@ -120,15 +143,75 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return sortedPersons;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        sortedPersons.setComparator(null);
+        filteredPersons.setPredicate(predicate);
+    }
+
+    @Override
+    public Predicate<? super Person> getFilteredPersonListPredicate() {
+        return filteredPersons.getPredicate();
+    }
+
+    @Override
+    public Comparator<? super Person> getFilteredPersonListComparator() {
+        return sortedPersons.getComparator();
+    }
+
+    @Override
+    public void setFilteredPersonList(Predicate<? super Person> predicate, Comparator<? super Person> comparator) {
+        sortedPersons.setComparator(comparator);
         filteredPersons.setPredicate(predicate);
     }
 
+    @Override
+    public void updateFilteredPersonListByName(NameContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        Set<Person> matches = addressBook.getPersonsWithNameKeywords(predicate.getKeywords());
+        updateFilteredPersonList(matches::contains);
+    }
+
+    @Override
+    public void updateFilteredPersonListBySearch(PersonSearch search) {
+        requireNonNull(search);
+        Map<Person, Integer> scores = addressBook.searchPersons(search);
+        updateFilteredPersonList(scores::containsKey);
+        sortedPersons.setComparator((first, second) -> Integer.compare(scores.get(second), scores.get(first)));
+    }
+
+    @Override
+    public void updateFilteredPersonListByQuery(PersonQuery query) {
+        requireNonNull(query);
+        Optional<Set<Person>> candidates = query.findCandidates(addressBook);
+        if (candidates.isPresent()) {
+            Set<Person> candidateSet = candidates.get();
+            if (query.hasExactCandidates()) {
+                updateFilteredPersonList(candidateSet::contains);
+            } else {
+                updateFilteredPersonList(person -> candidateSet.contains(person) && query.test(person));
+            }
+        } else {
+            updateFilteredPersonList(query);
+        }
+    }
+
+    @Override
+    public void updateFilteredPersonListByTags(Set<Tag> tags) {
+        requireNonNull(tags);
+        Set<Person> matches = addressBook.getPersonsWithAllTags(tags);
+        updateFilteredPersonList(matches::contains);
+    }
+
+    @Override
+    public Map<Tag, Integer> getTagCounts() {
+        return addressBook.getTagCounts();
+    }
+
     @Override
     public boolean equals(Object obj) {
         // short circuit if same object
@@ -145,7 +228,7 @@ public class ModelManager implements Model {
         ModelManager other = (ModelManager) obj;
         return addressBook.equals(other.addressBook)
                 && userPrefs.equals(other.userPrefs)
-                && filteredPersons.equals(other.filteredPersons);
+                && sortedPersons.equals(other.sortedPersons);
     }
 
 }
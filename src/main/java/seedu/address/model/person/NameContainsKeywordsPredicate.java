@@ -3,22 +3,38 @@ package seedu.address.model.person;
 import java.util.List;
 import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.CaseInsensitiveWord;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
  */
 public class NameContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private final CaseInsensitiveWord[] words;
 
+    /**
+     * Constructs a {@code NameContainsKeywordsPredicate} matching any of {@code keywords}.
+     *
+     * @throws IllegalArgumentException if any keyword is empty or is not a single word.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.words = keywords.stream().map(CaseInsensitiveWord::new).toArray(CaseInsensitiveWord[]::new);
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
+        String fullName = person.getName().fullName;
+        for (CaseInsensitiveWord word : words) {
+            if (word.isContainedIn(fullName)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
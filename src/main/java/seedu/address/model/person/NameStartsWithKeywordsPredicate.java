@@ -0,0 +1,74 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.CaseInsensitiveWord;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Tests that any of the keywords given starts a word of a {@code Person}'s {@code Name}, ignoring case.
+ * Every person matched by a {@link NameContainsKeywordsPredicate} with the same keywords is also matched, so this
+ * suits previewing a {@code find} command while its last keyword is still being typed.
+ */
+public class NameStartsWithKeywordsPredicate implements Predicate<Person> {
+    private final List<String> keywords;
+    private final CaseInsensitiveWord[] words;
+    private final String[] foldedKeywords;
+
+    /**
+     * Constructs a {@code NameStartsWithKeywordsPredicate} matching any of {@code keywords}.
+     *
+     * @throws IllegalArgumentException if any keyword is empty or is not a single word.
+     */
+    public NameStartsWithKeywordsPredicate(List<String> keywords) {
+        this.keywords = keywords;
+        this.words = keywords.stream().map(CaseInsensitiveWord::new).toArray(CaseInsensitiveWord[]::new);
+        this.foldedKeywords = keywords.stream().map(String::trim).map(StringUtil::foldCase).toArray(String[]::new);
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    /**
+     * Returns true if every person matched by {@code other} is also matched by this predicate, which is the case
+     * when each keyword of {@code other} starts with some keyword of this predicate, ignoring case.
+     * That holds when more of a keyword is typed, or a keyword is deleted. As any keyword matches, adding a keyword
+     * can only widen the matches.
+     */
+    public boolean isNarrowedBy(NameStartsWithKeywordsPredicate other) {
+        for (String otherKeyword : other.foldedKeywords) {
+            boolean isNarrowed = false;
+            for (String keyword : foldedKeywords) {
+                if (otherKeyword.startsWith(keyword)) {
+                    isNarrowed = true;
+                    break;
+                }
+            }
+            if (!isNarrowed) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        String fullName = person.getName().fullName;
+        for (CaseInsensitiveWord word : words) {
+            if (word.isPrefixOfWordIn(fullName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof NameStartsWithKeywordsPredicate // instanceof handles nulls
+                && keywords.equals(((NameStartsWithKeywordsPredicate) other).keywords)); // state check
+    }
+
+}
@@ -0,0 +1,82 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.StringUtil.foldCase;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An inverted index from the words in persons' names to the persons having them.
+ * Words are matched case-insensitively, in the same way as {@link String#equalsIgnoreCase(String)}, so looking up
+ * keywords finds the same persons as testing every person with a {@link NameContainsKeywordsPredicate}, but only
+ * takes time proportional to the number of persons found.
+ */
+public class NameTokenIndex implements PersonIndex {
+
+    private final Map<String, Set<Person>> postings = new HashMap<>();
+
+    @Override
+    public void add(Person person) {
+        requireNonNull(person);
+        for (String token : getTokens(person)) {
+            postings.computeIfAbsent(token, unused -> new HashSet<>()).add(person);
+        }
+    }
+
+    @Override
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (String token : getTokens(person)) {
+            Set<Person> persons = postings.get(token);
+            if (persons != null && persons.remove(person) && persons.isEmpty()) {
+                postings.remove(token);
+            }
+        }
+    }
+
+    @Override
+    public void setPersons(Collection<Person> persons) {
+        requireNonNull(persons);
+        postings.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the persons whose name contains any of {@code keywords} as a whole word, ignoring case.
+     * The returned set is a copy that does not change with the index.
+     */
+    public Set<Person> getPersonsWithAnyWord(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<Person> matches = new HashSet<>();
+        for (String keyword : keywords) {
+            Set<Person> persons = postings.get(foldCase(keyword));
+            if (persons != null) {
+                matches.addAll(persons);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the number of persons whose name contains {@code keyword} as a whole word, ignoring case.
+     */
+    public int countPersonsWithWord(String keyword) {
+        requireNonNull(keyword);
+        return postings.getOrDefault(foldCase(keyword), Collections.emptySet()).size();
+    }
+
+    private static Set<String> getTokens(Person person) {
+        Set<String> tokens = new HashSet<>();
+        for (String word : person.getName().fullName.split("\\s+")) {
+            if (!word.isEmpty()) {
+                tokens.add(foldCase(word));
+            }
+        }
+        return tokens;
+    }
+}
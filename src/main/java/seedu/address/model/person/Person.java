@@ -2,10 +2,13 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import seedu.address.model.tag.Tag;
 
@@ -22,7 +25,10 @@ public class Person {
 
     // Data fields
     private final Address address;
-    private final Set<Tag> tags = new HashSet<>();
+    private final TagArraySet tags;
+
+    // Persons are immutable and hashed often by the indexes of the address book, so the hash is computed once
+    private final int hashCode;
 
     /**
      * Every field must be present and not null.
@@ -33,7 +39,8 @@ public class Person {
         this.phone = phone;
         this.email = email;
         this.address = address;
-        this.tags.addAll(tags);
+        this.tags = tags instanceof TagArraySet ? (TagArraySet) tags : new TagArraySet(tags);
+        this.hashCode = Objects.hash(name, phone, email, address, this.tags);
     }
 
     public Name getName() {
@@ -57,7 +64,7 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     /**
@@ -88,7 +95,8 @@ public class Person {
         }
 
         Person otherPerson = (Person) other;
-        return otherPerson.getName().equals(getName())
+        return otherPerson.hashCode == hashCode
+                && otherPerson.getName().equals(getName())
                 && otherPerson.getPhone().equals(getPhone())
                 && otherPerson.getEmail().equals(getEmail())
                 && otherPerson.getAddress().equals(getAddress())
@@ -97,8 +105,7 @@ public class Person {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, tags);
+        return hashCode;
     }
 
     @Override
@@ -120,4 +127,82 @@ public class Person {
         return builder.toString();
     }
 
+    /**
+     * An immutable set of tags backed by an array, in the iteration order of the set it was created from.
+     * A person has few tags, so scanning the array is as fast as hashing, and takes far less memory than a
+     * {@code HashSet}, which needs a table and an entry object per tag.
+     */
+    private static class TagArraySet extends AbstractSet<Tag> {
+        private static final Tag[] NO_TAGS = new Tag[0];
+
+        private final Tag[] tags;
+
+        TagArraySet(Set<Tag> tags) {
+            this.tags = tags.isEmpty() ? NO_TAGS : tags.toArray(NO_TAGS);
+            for (Tag tag : this.tags) {
+                Objects.requireNonNull(tag);
+            }
+        }
+
+        @Override
+        public boolean contains(Object other) {
+            for (Tag tag : tags) {
+                if (tag.equals(other)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public Iterator<Tag> iterator() {
+            return new Iterator<>() {
+                private int position = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return position < tags.length;
+                }
+
+                @Override
+                public Tag next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return tags[position++];
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return tags.length;
+        }
+
+        @Override
+        public boolean remove(Object other) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> others) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> others) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean removeIf(Predicate<? super Tag> filter) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void clear() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
 }
@@ -0,0 +1,24 @@
+package seedu.address.model.person;
+
+import java.util.Collection;
+
+/**
+ * An index over the persons of an address book, kept up to date as persons are added, edited and removed.
+ */
+public interface PersonIndex {
+
+    /**
+     * Adds {@code person} to the index.
+     */
+    void add(Person person);
+
+    /**
+     * Removes {@code person} from the index.
+     */
+    void remove(Person person);
+
+    /**
+     * Replaces the persons in the index with {@code persons}.
+     */
+    void setPersons(Collection<Person> persons);
+}
@@ -0,0 +1,61 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A search for persons whose name, email, address or tags have words that approximately match any of the keywords
+ * given. Unlike a {@link NameContainsKeywordsPredicate}, a search ranks the persons found by how well they match.
+ */
+public class PersonSearch {
+
+    /**
+     * How words are matched against keywords.
+     */
+    public enum Mode {
+        /** Words starting with a keyword match it. */
+        PREFIX,
+        /** Words within a few typing mistakes of a keyword match it. */
+        FUZZY
+    }
+
+    private final Mode mode;
+    private final List<String> keywords;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public PersonSearch(Mode mode, List<String> keywords) {
+        requireAllNonNull(mode, keywords);
+        this.mode = mode;
+        this.keywords = keywords;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PersonSearch // instanceof handles nulls
+                && mode == ((PersonSearch) other).mode
+                && keywords.equals(((PersonSearch) other).keywords)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(mode, keywords);
+    }
+
+    @Override
+    public String toString() {
+        return mode + " search for " + keywords;
+    }
+}
@@ -0,0 +1,213 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.commons.util.StringUtil.foldCase;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * An index of the words in persons' names, emails, addresses and tags, for finding persons by the start of a word or
+ * by a word with typing mistakes in it. Words are matched ignoring case.
+ * <p>
+ * Words are kept in sorted order, so the words starting with a prefix are found as a single range. Each word is also
+ * indexed by its trigrams, the runs of three characters in it, so that words similar to a keyword are found by only
+ * comparing the keyword against words sharing a trigram with it.
+ */
+public class PersonSearchIndex implements PersonIndex {
+
+    /** Score of a keyword that is a whole word of a person. Higher scores rank first. */
+    public static final int EXACT_MATCH_SCORE = 3;
+
+    private static final String TRIGRAM_PADDING = "  ";
+
+    private final NavigableMap<String, Set<Person>> personsByWord = new TreeMap<>();
+    private final Map<String, Set<String>> wordsByTrigram = new HashMap<>();
+
+    @Override
+    public void add(Person person) {
+        requireNonNull(person);
+        for (String word : getWords(person)) {
+            Set<Person> persons = personsByWord.get(word);
+            if (persons == null) {
+                persons = new HashSet<>();
+                personsByWord.put(word, persons);
+                for (String trigram : getTrigrams(word)) {
+                    wordsByTrigram.computeIfAbsent(trigram, unused -> new HashSet<>()).add(word);
+                }
+            }
+            persons.add(person);
+        }
+    }
+
+    @Override
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (String word : getWords(person)) {
+            Set<Person> persons = personsByWord.get(word);
+            if (persons == null || !persons.remove(person) || !persons.isEmpty()) {
+                continue;
+            }
+            personsByWord.remove(word);
+            for (String trigram : getTrigrams(word)) {
+                Set<String> words = wordsByTrigram.get(trigram);
+                words.remove(word);
+                if (words.isEmpty()) {
+                    wordsByTrigram.remove(trigram);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void setPersons(Collection<Person> persons) {
+        requireNonNull(persons);
+        personsByWord.clear();
+        wordsByTrigram.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the persons found by {@code mode} for {@code keywords}, each with a score of how well it matches.
+     * The score of a person is the sum, over the keywords, of the score of its best matching word. A word equal to
+     * the keyword scores {@link #EXACT_MATCH_SCORE}. A word that only starts with the keyword, or that is a few
+     * typing mistakes away from it, scores less.
+     */
+    public Map<Person, Integer> search(PersonSearch.Mode mode, Collection<String> keywords) {
+        requireAllNonNull(mode, keywords);
+        Map<Person, Integer> scores = new HashMap<>();
+        for (String keyword : keywords) {
+            Map<Person, Integer> keywordScores = new HashMap<>();
+            String foldedKeyword = foldCase(keyword);
+            if (mode == PersonSearch.Mode.PREFIX) {
+                addPrefixMatches(foldedKeyword, keywordScores);
+            } else {
+                addFuzzyMatches(foldedKeyword, keywordScores);
+            }
+            keywordScores.forEach((person, score) -> scores.merge(person, score, Integer::sum));
+        }
+        return scores;
+    }
+
+    private void addPrefixMatches(String prefix, Map<Person, Integer> scores) {
+        if (prefix.isEmpty()) {
+            return;
+        }
+        for (Map.Entry<String, Set<Person>> entry : personsByWord.tailMap(prefix, true).entrySet()) {
+            if (!entry.getKey().startsWith(prefix)) {
+                break; // words are sorted, so no later word starts with the prefix either
+            }
+            int score = entry.getKey().length() == prefix.length() ? EXACT_MATCH_SCORE : EXACT_MATCH_SCORE - 1;
+            for (Person person : entry.getValue()) {
+                scores.merge(person, score, Math::max);
+            }
+        }
+    }
+
+    private void addFuzzyMatches(String keyword, Map<Person, Integer> scores) {
+        int maxEdits = getMaxEdits(keyword);
+        Set<String> candidates = new HashSet<>();
+        for (String trigram : getTrigrams(keyword)) {
+            candidates.addAll(wordsByTrigram.getOrDefault(trigram, Set.of()));
+        }
+
+        for (String word : candidates) {
+            int distance = getEditDistance(keyword, word, maxEdits);
+            if (distance > maxEdits) {
+                continue;
+            }
+            int score = EXACT_MATCH_SCORE - distance;
+            for (Person person : personsByWord.get(word)) {
+                scores.merge(person, score, Math::max);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of typing mistakes allowed in a word matched by {@code keyword}.
+     * Short keywords must match exactly, as almost any short word is a mistake or two away from them.
+     */
+    private static int getMaxEdits(String keyword) {
+        if (keyword.length() <= 2) {
+            return 0;
+        }
+        return keyword.length() <= 5 ? 1 : 2;
+    }
+
+    /**
+     * Returns the Levenshtein distance between {@code first} and {@code second}, or any number larger than
+     * {@code maxDistance} if the distance is larger than {@code maxDistance}.
+     */
+    private static int getEditDistance(String first, String second, int maxDistance) {
+        if (Math.abs(first.length() - second.length()) > maxDistance) {
+            return maxDistance + 1;
+        }
+
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            int rowMinimum = current[0];
+            for (int j = 1; j <= second.length(); j++) {
+                int substitution = previous[j - 1] + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+                rowMinimum = Math.min(rowMinimum, current[j]);
+            }
+            if (rowMinimum > maxDistance) {
+                return maxDistance + 1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[second.length()];
+    }
+
+    /**
+     * Returns the trigrams of {@code word}, padded so that even one-letter words have trigrams and so that the start
+     * and end of the word are covered by more trigrams than the middle.
+     */
+    private static Set<String> getTrigrams(String word) {
+        String padded = TRIGRAM_PADDING + word + " ";
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    /**
+     * Returns the case-folded words of the fields of {@code person}.
+     * The email is indexed as a whole as well as split into its parts.
+     */
+    private static Set<String> getWords(Person person) {
+        Set<String> words = new HashSet<>();
+        addWords(words, person.getName().fullName, "\\s+");
+        words.add(foldCase(person.getEmail().value));
+        addWords(words, person.getEmail().value, "[^\\p{Alnum}]+");
+        addWords(words, person.getAddress().value, "[\\s,]+");
+        for (Tag tag : person.getTags()) {
+            words.add(foldCase(tag.tagName));
+        }
+        return words;
+    }
+
+    private static void addWords(Set<String> words, String text, String separatorRegex) {
+        for (String word : text.split(separatorRegex)) {
+            if (!word.isEmpty()) {
+                words.add(foldCase(word));
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * An index of persons by phone number, in sorted order so that the persons whose phone number starts with some
+ * digits are found as a single range.
+ */
+public class PhoneIndex implements PersonIndex {
+
+    private final NavigableMap<String, Set<Person>> personsByPhone = new TreeMap<>();
+
+    @Override
+    public void add(Person person) {
+        requireNonNull(person);
+        personsByPhone.computeIfAbsent(person.getPhone().value, unused -> new HashSet<>()).add(person);
+    }
+
+    @Override
+    public void remove(Person person) {
+        requireNonNull(person);
+        Set<Person> persons = personsByPhone.get(person.getPhone().value);
+        if (persons != null && persons.remove(person) && persons.isEmpty()) {
+            personsByPhone.remove(person.getPhone().value);
+        }
+    }
+
+    @Override
+    public void setPersons(Collection<Person> persons) {
+        requireNonNull(persons);
+        personsByPhone.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the persons whose phone number starts with {@code prefix}.
+     * The returned set is a copy that does not change with the index.
+     */
+    public Set<Person> getPersonsWithPhonePrefix(String prefix) {
+        requireNonNull(prefix);
+        Set<Person> matches = new HashSet<>();
+        for (Map.Entry<String, Set<Person>> entry : personsByPhone.tailMap(prefix, true).entrySet()) {
+            if (!entry.getKey().startsWith(prefix)) {
+                break; // phone numbers are sorted, so no later phone number starts with the prefix either
+            }
+            matches.addAll(entry.getValue());
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the number of persons whose phone number starts with {@code prefix}, without collecting them.
+     */
+    public int countPersonsWithPhonePrefix(String prefix) {
+        requireNonNull(prefix);
+        int count = 0;
+        for (Map.Entry<String, Set<Person>> entry : personsByPhone.tailMap(prefix, true).entrySet()) {
+            if (!entry.getKey().startsWith(prefix)) {
+                break;
+            }
+            count += entry.getValue().size();
+        }
+        return count;
+    }
+}
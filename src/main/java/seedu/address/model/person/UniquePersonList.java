@@ -3,8 +3,12 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,22 +22,38 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Alongside the observable list, a hash index from each person's {@code Name} to its position in the list is kept,
+ * so that identity checks and position lookups take constant time regardless of the size of the list. Removing a
+ * person does not update the positions of the persons after it, which may then be too large by at most the number
+ * of removals since. Such positions are corrected on lookup, and all of them are refreshed in one pass once
+ * {@link #MAX_STALE_REMOVALS} removals have left them stale.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
+    /** Number of removals after which stale positions are refreshed rather than corrected on lookup. */
+    static final int MAX_STALE_REMOVALS = 64;
+
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /** Position of each person in {@code internalList}, keyed by the name that defines the person's identity. */
+    private final Map<Name, Integer> positionIndex = new HashMap<>();
+    /** Positions in {@code positionIndex} from this one on may be stale, or none are if it is the maximum int. */
+    private int firstStalePosition = Integer.MAX_VALUE;
+    /** Number of removals since positions were last refreshed, which bounds how stale a position may be. */
+    private int staleRemovals;
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return positionIndex.containsKey(toCheck.getName());
     }
 
     /**
@@ -45,9 +65,35 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        positionIndex.put(toAdd.getName(), internalList.size());
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds all of {@code toAdd} to the end of the list as a single change to the list.
+     * None of the persons may already exist in the list, or occur more than once in {@code toAdd}.
+     *
+     * @throws DuplicatePersonException naming every identity in {@code toAdd} that is already in the list or occurs
+     *     more than once in {@code toAdd}. The list is left unchanged.
+     */
+    public void addAll(List<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        Map<Name, Integer> addedIndex = new HashMap<>();
+        Set<Name> duplicateNames = new LinkedHashSet<>();
+        for (int i = 0; i < toAdd.size(); i++) {
+            Name name = toAdd.get(i).getName();
+            if (positionIndex.containsKey(name) || addedIndex.putIfAbsent(name, internalList.size() + i) != null) {
+                duplicateNames.add(name);
+            }
+        }
+        if (!duplicateNames.isEmpty()) {
+            throw new DuplicatePersonException(duplicateNames);
+        }
+
+        positionIndex.putAll(addedIndex);
+        internalList.addAll(toAdd);
+    }
+
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
@@ -56,7 +102,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -65,6 +111,8 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        positionIndex.remove(target.getName());
+        positionIndex.put(editedPerson.getName(), index);
         internalList.set(index, editedPerson);
     }
 
@@ -74,29 +122,98 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        positionIndex.remove(toRemove.getName());
+        internalList.remove(index);
+        // the persons after it move towards the front, so their positions are left one too large
+        firstStalePosition = Math.min(firstStalePosition, index);
+        staleRemovals++;
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        positionIndex.clear();
+        positionIndex.putAll(replacement.positionIndex);
+        firstStalePosition = replacement.firstStalePosition;
+        staleRemovals = replacement.staleRemovals;
         internalList.setAll(replacement.internalList);
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     *
+     * @throws DuplicatePersonException naming every identity that occurs more than once in {@code persons}.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        Map<Name, Integer> replacementIndex = new HashMap<>();
+        Set<Name> duplicateNames = new LinkedHashSet<>();
+        for (int i = 0; i < persons.size(); i++) {
+            Name name = persons.get(i).getName();
+            if (replacementIndex.putIfAbsent(name, i) != null) {
+                duplicateNames.add(name);
+            }
+        }
+        if (!duplicateNames.isEmpty()) {
+            throw new DuplicatePersonException(duplicateNames);
         }
 
+        positionIndex.clear();
+        positionIndex.putAll(replacementIndex);
+        firstStalePosition = Integer.MAX_VALUE;
+        staleRemovals = 0;
         internalList.setAll(persons);
     }
 
+    /**
+     * Returns the position of {@code person} in the list, or -1 if the list does not contain a person that is
+     * equal to {@code person} as defined by {@code Person#equals(Object)}.
+     */
+    public int indexOf(Person person) {
+        requireNonNull(person);
+        Integer position = positionIndex.get(person.getName());
+        if (position == null) {
+            return -1;
+        }
+        int index = locate(person.getName(), position);
+        return internalList.get(index).equals(person) ? index : -1;
+    }
+
+    /**
+     * Returns the position in the list of the person named {@code name}, whose position in {@code positionIndex} is
+     * {@code position}. A stale position is at most {@code staleRemovals} too large, so the person is searched for
+     * from there towards the front, unless the positions are due to be refreshed.
+     */
+    private int locate(Name name, int position) {
+        if (position < firstStalePosition) {
+            return position;
+        }
+        if (staleRemovals > MAX_STALE_REMOVALS) {
+            refreshPositions();
+            return positionIndex.get(name);
+        }
+
+        int index = Math.min(position, internalList.size() - 1);
+        while (!internalList.get(index).getName().equals(name)) {
+            index--;
+        }
+        positionIndex.put(name, index);
+        return index;
+    }
+
+    private void refreshPositions() {
+        for (int i = firstStalePosition; i < internalList.size(); i++) {
+            positionIndex.put(internalList.get(i).getName(), i);
+        }
+        firstStalePosition = Integer.MAX_VALUE;
+        staleRemovals = 0;
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -106,7 +223,7 @@ public class UniquePersonList implements Iterable<Person> {
 
     @Override
     public Iterator<Person> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -120,18 +237,4 @@ public class UniquePersonList implements Iterable<Person> {
     public int hashCode() {
         return internalList.hashCode();
     }
-
-    /**
-     * Returns true if {@code persons} contains only unique persons.
-     */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
 }
@@ -1,5 +1,10 @@
 package seedu.address.model.person.exceptions;
 
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Name;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
@@ -8,4 +13,13 @@ public class DuplicatePersonException extends RuntimeException {
     public DuplicatePersonException() {
         super("Operation would result in duplicate persons");
     }
+
+    /**
+     * Constructs a {@code DuplicatePersonException} that reports the {@code duplicateNames} that collided.
+     */
+    public DuplicatePersonException(Collection<Name> duplicateNames) {
+        super("Operation would result in duplicate persons: " + duplicateNames.stream()
+                .map(name -> name.fullName)
+                .collect(Collectors.joining(", ")));
+    }
 }
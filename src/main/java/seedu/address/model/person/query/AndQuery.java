@@ -0,0 +1,101 @@
+package seedu.address.model.person.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that a {@code Person} satisfies all of the given queries.
+ * Candidates are found using only the most selective index among the queries, and then tested against the others.
+ */
+public class AndQuery extends PersonQuery {
+
+    private final List<PersonQuery> queries;
+
+    /**
+     * Constructs an {@code AndQuery} of {@code queries}.
+     */
+    public AndQuery(List<PersonQuery> queries) {
+        requireNonNull(queries);
+        this.queries = queries;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        for (PersonQuery query : queries) {
+            if (!query.test(person)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Optional<Set<Person>> findCandidates(AddressBook addressBook) {
+        // Only the smallest candidate set is collected. Testing each of its persons against the other queries
+        // takes time proportional to its size, whereas collecting and intersecting the other, larger sets would not.
+        PersonQuery mostSelectiveQuery = null;
+        int smallestEstimate = Integer.MAX_VALUE;
+        for (PersonQuery query : queries) {
+            OptionalInt estimate = query.estimateCandidates(addressBook);
+            if (estimate.isPresent() && (mostSelectiveQuery == null || estimate.getAsInt() < smallestEstimate)) {
+                mostSelectiveQuery = query;
+                smallestEstimate = estimate.getAsInt();
+            }
+        }
+        if (mostSelectiveQuery == null) {
+            return Optional.empty();
+        }
+
+        Set<Person> candidates = new HashSet<>();
+        for (Person person : mostSelectiveQuery.findCandidates(addressBook).get()) {
+            if (test(person)) {
+                candidates.add(person);
+            }
+        }
+        return Optional.of(candidates);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Candidates have already been tested against every query.
+     */
+    @Override
+    public boolean hasExactCandidates() {
+        return true;
+    }
+
+    @Override
+    public OptionalInt estimateCandidates(AddressBook addressBook) {
+        return queries.stream()
+                .map(query -> query.estimateCandidates(addressBook))
+                .filter(OptionalInt::isPresent)
+                .mapToInt(OptionalInt::getAsInt)
+                .min();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AndQuery // instanceof handles nulls
+                && queries.equals(((AndQuery) other).queries)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return queries.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return queries.stream().map(Object::toString).collect(Collectors.joining(" AND ", "(", ")"));
+    }
+}
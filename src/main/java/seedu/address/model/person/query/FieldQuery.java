@@ -0,0 +1,127 @@
+package seedu.address.model.person.query;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+
+import seedu.address.commons.util.CaseInsensitiveWord;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Tests that one field of a {@code Person} matches a value.
+ * <ul>
+ *     <li>A name matches if it contains the value as a whole word, ignoring case.</li>
+ *     <li>A phone number matches if it starts with the value.</li>
+ *     <li>An email or address matches if it contains the value, ignoring case.</li>
+ *     <li>Tags match if one of them is the tag named by the value.</li>
+ * </ul>
+ */
+public class FieldQuery extends PersonQuery {
+
+    /**
+     * The fields of a {@code Person} that can be queried.
+     */
+    public enum Field {
+        NAME, PHONE, EMAIL, ADDRESS, TAG
+    }
+
+    private final Field field;
+    private final String value;
+    private final CaseInsensitiveWord nameWord;
+    private final Tag tag;
+
+    /**
+     * Constructs a {@code FieldQuery} for {@code value} in {@code field}.
+     *
+     * @throws IllegalArgumentException if {@code field} is the name and {@code value} is not a single word, or if
+     *     {@code field} is the tags and {@code value} is not a valid tag name.
+     */
+    public FieldQuery(Field field, String value) {
+        requireAllNonNull(field, value);
+        this.field = field;
+        this.value = value;
+        this.nameWord = field == Field.NAME ? new CaseInsensitiveWord(value) : null;
+        this.tag = field == Field.TAG ? new Tag(value) : null;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        switch (field) {
+        case NAME:
+            return nameWord.isContainedIn(person.getName().fullName);
+        case PHONE:
+            return person.getPhone().value.startsWith(value);
+        case EMAIL:
+            return StringUtil.containsIgnoreCase(person.getEmail().value, value);
+        case ADDRESS:
+            return StringUtil.containsIgnoreCase(person.getAddress().value, value);
+        case TAG:
+            return person.getTags().contains(tag);
+        default:
+            throw new AssertionError("Unknown field: " + field);
+        }
+    }
+
+    @Override
+    public Optional<Set<Person>> findCandidates(AddressBook addressBook) {
+        switch (field) {
+        case NAME:
+            return Optional.of(addressBook.getPersonsWithNameKeywords(Collections.singletonList(value)));
+        case PHONE:
+            return Optional.of(addressBook.getPersonsWithPhonePrefix(value));
+        case TAG:
+            return Optional.of(addressBook.getPersonsWithTag(tag));
+        default:
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * The name, phone and tag indexes match persons in the same way as {@link #test(Person)}, and no other field
+     * has candidates.
+     */
+    @Override
+    public boolean hasExactCandidates() {
+        return true;
+    }
+
+    @Override
+    public OptionalInt estimateCandidates(AddressBook addressBook) {
+        switch (field) {
+        case NAME:
+            return OptionalInt.of(addressBook.countPersonsWithNameKeyword(value));
+        case PHONE:
+            return OptionalInt.of(addressBook.countPersonsWithPhonePrefix(value));
+        case TAG:
+            return OptionalInt.of(addressBook.countPersonsWithTag(tag));
+        default:
+            return OptionalInt.empty();
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FieldQuery // instanceof handles nulls
+                && field == ((FieldQuery) other).field
+                && value.equals(((FieldQuery) other).value)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(field, value);
+    }
+
+    @Override
+    public String toString() {
+        return field + ":" + value;
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.address.model.person.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that a {@code Person} does not satisfy the given query.
+ * Candidates cannot be narrowed down, as most persons usually satisfy a negated query.
+ */
+public class NotQuery extends PersonQuery {
+
+    private final PersonQuery query;
+
+    /**
+     * Constructs a {@code NotQuery} negating {@code query}.
+     */
+    public NotQuery(PersonQuery query) {
+        requireNonNull(query);
+        this.query = query;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return !query.test(person);
+    }
+
+    @Override
+    public Optional<Set<Person>> findCandidates(AddressBook addressBook) {
+        return Optional.empty();
+    }
+
+    @Override
+    public boolean hasExactCandidates() {
+        return false;
+    }
+
+    @Override
+    public OptionalInt estimateCandidates(AddressBook addressBook) {
+        return OptionalInt.empty();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof NotQuery // instanceof handles nulls
+                && query.equals(((NotQuery) other).query)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return query.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "NOT " + query;
+    }
+}
@@ -0,0 +1,88 @@
+package seedu.address.model.person.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that a {@code Person} satisfies any of the given queries.
+ * Candidates can only be narrowed down if every query can narrow them down.
+ */
+public class OrQuery extends PersonQuery {
+
+    private final List<PersonQuery> queries;
+
+    /**
+     * Constructs an {@code OrQuery} of {@code queries}.
+     */
+    public OrQuery(List<PersonQuery> queries) {
+        requireNonNull(queries);
+        this.queries = queries;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        for (PersonQuery query : queries) {
+            if (query.test(person)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Optional<Set<Person>> findCandidates(AddressBook addressBook) {
+        Set<Person> candidates = new HashSet<>();
+        for (PersonQuery query : queries) {
+            Optional<Set<Person>> queryCandidates = query.findCandidates(addressBook);
+            if (!queryCandidates.isPresent()) {
+                return Optional.empty();
+            }
+            candidates.addAll(queryCandidates.get());
+        }
+        return Optional.of(candidates);
+    }
+
+    @Override
+    public boolean hasExactCandidates() {
+        return queries.stream().allMatch(PersonQuery::hasExactCandidates);
+    }
+
+    @Override
+    public OptionalInt estimateCandidates(AddressBook addressBook) {
+        int estimate = 0;
+        for (PersonQuery query : queries) {
+            OptionalInt queryEstimate = query.estimateCandidates(addressBook);
+            if (!queryEstimate.isPresent()) {
+                return OptionalInt.empty();
+            }
+            estimate += queryEstimate.getAsInt();
+        }
+        return OptionalInt.of(estimate);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof OrQuery // instanceof handles nulls
+                && queries.equals(((OrQuery) other).queries)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return queries.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return queries.stream().map(Object::toString).collect(Collectors.joining(" OR ", "(", ")"));
+    }
+}
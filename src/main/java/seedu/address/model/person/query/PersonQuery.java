@@ -0,0 +1,37 @@
+package seedu.address.model.person.query;
+
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A condition on the fields of a {@code Person}, which can be combined with other conditions.
+ * Besides testing a person, a query can narrow down the persons to test using the indexes of an address book.
+ */
+public abstract class PersonQuery implements Predicate<Person> {
+
+    /**
+     * Returns the persons of {@code addressBook} that may satisfy this query, as found using the indexes of
+     * {@code addressBook}, or an empty {@code Optional} if no index can narrow down the persons to test.
+     * Persons not returned do not satisfy this query. Persons returned must still be tested, unless
+     * {@link #hasExactCandidates()} is true.
+     */
+    public abstract Optional<Set<Person>> findCandidates(AddressBook addressBook);
+
+    /**
+     * Returns true if every person returned by {@link #findCandidates(AddressBook)} satisfies this query, so that
+     * the candidates need not be tested again.
+     */
+    public abstract boolean hasExactCandidates();
+
+    /**
+     * Returns at least the number of persons {@link #findCandidates(AddressBook)} would return, as counted using the
+     * indexes of {@code addressBook} without collecting the persons, or an empty {@code OptionalInt} if no index can
+     * narrow down the persons to test.
+     */
+    public abstract OptionalInt estimateCandidates(AddressBook addressBook);
+}
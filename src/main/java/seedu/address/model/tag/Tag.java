@@ -2,16 +2,29 @@ package seedu.address.model.tag;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.ValidationUtil.isAlphanumeric;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
+ * Tags obtained from {@link #of(String)} are shared, so equal tags from it are the same object.
  */
 public class Tag {
 
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    /**
+     * Canonical tags by name. Entries are weak so that tags no person has any more can be garbage collected: the
+     * key is the name held by the tag itself, so it stays reachable exactly as long as the tag does.
+     * Guarded by its own lock, as tags can be created from several threads when loading.
+     */
+    private static final Map<String, WeakReference<Tag>> canonicalTags = new WeakHashMap<>();
+
     public final String tagName;
 
     /**
@@ -25,11 +38,31 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns the shared {@code Tag} named {@code tagName}, creating it if there is none.
+     * Prefer this to the constructor for tags kept in the address book, so that persons with the same tag do not
+     * each hold a copy of it.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        requireNonNull(tagName);
+        synchronized (canonicalTags) {
+            WeakReference<Tag> reference = canonicalTags.get(tagName);
+            Tag tag = reference == null ? null : reference.get();
+            if (tag == null) {
+                tag = new Tag(tagName);
+                canonicalTags.put(tag.tagName, new WeakReference<>(tag));
+            }
+            return tag;
+        }
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return isAlphanumeric(test);
     }
 
     @Override
@@ -0,0 +1,103 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIndex;
+
+/**
+ * An index of persons by the tags they have.
+ */
+public class TagIndex implements PersonIndex {
+
+    private final Map<Tag, Set<Person>> personsByTag = new HashMap<>();
+
+    @Override
+    public void add(Person person) {
+        requireNonNull(person);
+        for (Tag tag : person.getTags()) {
+            personsByTag.computeIfAbsent(tag, unused -> new HashSet<>()).add(person);
+        }
+    }
+
+    @Override
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (Tag tag : person.getTags()) {
+            Set<Person> persons = personsByTag.get(tag);
+            if (persons != null && persons.remove(person) && persons.isEmpty()) {
+                personsByTag.remove(tag);
+            }
+        }
+    }
+
+    @Override
+    public void setPersons(Collection<Person> persons) {
+        requireNonNull(persons);
+        personsByTag.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the persons having {@code tag}.
+     * The returned set is a copy that does not change with the index.
+     */
+    public Set<Person> getPersonsWithTag(Tag tag) {
+        requireNonNull(tag);
+        return new HashSet<>(personsByTag.getOrDefault(tag, Collections.emptySet()));
+    }
+
+    /**
+     * Returns the number of persons having {@code tag}.
+     */
+    public int countPersonsWithTag(Tag tag) {
+        requireNonNull(tag);
+        return personsByTag.getOrDefault(tag, Collections.emptySet()).size();
+    }
+
+    /**
+     * Returns the persons having all of {@code tags}, or every indexed person with a tag if {@code tags} is empty.
+     * Only the persons having the rarest of {@code tags} are checked, so this takes time proportional to their number.
+     * The returned set is a copy that does not change with the index.
+     */
+    public Set<Person> getPersonsWithAllTags(Collection<Tag> tags) {
+        requireNonNull(tags);
+        if (tags.isEmpty()) {
+            Set<Person> persons = new HashSet<>();
+            personsByTag.values().forEach(persons::addAll);
+            return persons;
+        }
+
+        Set<Person> rarestTagPersons = null;
+        for (Tag tag : tags) {
+            Set<Person> persons = personsByTag.getOrDefault(tag, Collections.emptySet());
+            if (rarestTagPersons == null || persons.size() < rarestTagPersons.size()) {
+                rarestTagPersons = persons;
+            }
+        }
+
+        Set<Person> matches = new HashSet<>();
+        for (Person person : rarestTagPersons) {
+            if (person.getTags().containsAll(tags)) {
+                matches.add(person);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the number of persons having each tag in use.
+     */
+    public Map<Tag, Integer> getTagCounts() {
+        Map<Tag, Integer> tagCounts = new HashMap<>();
+        personsByTag.forEach((tag, persons) -> tagCounts.put(tag, persons.size()));
+        return tagCounts;
+    }
+}
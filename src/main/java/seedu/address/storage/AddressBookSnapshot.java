@@ -0,0 +1,44 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * An immutable copy of the persons list of an address book at the time it was saved.
+ * As persons are immutable, a snapshot can be kept and shared by reference, and written on another thread.
+ */
+class AddressBookSnapshot implements ReadOnlyAddressBook {
+    private final ObservableList<Person> persons;
+
+    private AddressBookSnapshot(List<Person> persons) {
+        this.persons = FXCollections.unmodifiableObservableList(FXCollections.observableList(persons));
+    }
+
+    /**
+     * Returns a snapshot of the persons list of {@code addressBook}.
+     * The list is only copied if {@code addressBook} is not already a snapshot.
+     */
+    static AddressBookSnapshot of(ReadOnlyAddressBook addressBook) {
+        if (addressBook instanceof AddressBookSnapshot) {
+            return (AddressBookSnapshot) addressBook;
+        }
+        return new AddressBookSnapshot(new ArrayList<>(addressBook.getPersonList()));
+    }
+
+    /**
+     * Returns a snapshot of {@code persons} without copying it, so {@code persons} must not be modified afterwards.
+     */
+    static AddressBookSnapshot wrap(List<Person> persons) {
+        return new AddressBookSnapshot(persons);
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+}
@@ -0,0 +1,332 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored as a compact binary file.
+ * <p>
+ * The file starts with a magic number and a format version, followed by a table of every distinct string in the
+ * address book, and then the persons, which refer to their field values by position in that table. Tags and the
+ * comma-separated fragments of addresses are therefore written only once however many persons share them.
+ * All counts, lengths and table positions are written as variable-length integers.
+ * The file ends with a CRC32 checksum of everything before it.
+ * <p>
+ * Files are read into memory with a single read, and the checksum is computed and persons are decoded straight from
+ * that buffer. The file is not memory-mapped, as a mapping lingers until it is garbage collected, and on some
+ * platforms a mapped file cannot be truncated by a later save. Every person is decoded when the file is read, as the
+ * model keeps them all; each distinct string is decoded once and shared by every person that refers to it.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final int MAGIC_NUMBER = 0x41424B42; // "ABKB"
+    public static final short FORMAT_VERSION = 1;
+    public static final String FILE_EXTENSION = ".bin";
+
+    public static final String MESSAGE_NOT_BINARY_ADDRESS_BOOK = "File is not a binary address book!";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary address book version %1$d is not supported!";
+    public static final String MESSAGE_CHECKSUM_MISMATCH = "Binary address book is corrupted!";
+
+    private static final int HEADER_SIZE = Integer.BYTES + Short.BYTES;
+    private static final String ADDRESS_FRAGMENT_SEPARATOR = ", ";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            if (Files.size(filePath) > Integer.MAX_VALUE) {
+                throw new IllegalValueException(MESSAGE_CHECKSUM_MISMATCH);
+            }
+            return Optional.of(readPersons(ByteBuffer.wrap(Files.readAllBytes(filePath))));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<Person> persons = addressBook.getPersonList();
+        Map<String, Integer> stringTable = new LinkedHashMap<>();
+        for (Person person : persons) {
+            addToStringTable(stringTable, person.getName().fullName);
+            addToStringTable(stringTable, person.getPhone().value);
+            addToStringTable(stringTable, person.getEmail().value);
+            for (String fragment : splitAddress(person.getAddress().value)) {
+                addToStringTable(stringTable, fragment);
+            }
+            for (Tag tag : person.getTags()) {
+                addToStringTable(stringTable, tag.tagName);
+            }
+        }
+
+        FileUtil.createIfMissing(filePath);
+        try (CheckedOutputStream checkedStream = new CheckedOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(filePath)), new CRC32())) {
+            DataOutputStream out = new DataOutputStream(checkedStream);
+            out.writeInt(MAGIC_NUMBER);
+            out.writeShort(FORMAT_VERSION);
+
+            writeVarInt(out, stringTable.size());
+            for (String string : stringTable.keySet()) {
+                byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                writeVarInt(out, bytes.length);
+                out.write(bytes);
+            }
+
+            writeVarInt(out, persons.size());
+            for (Person person : persons) {
+                writeVarInt(out, stringTable.get(person.getName().fullName));
+                writeVarInt(out, stringTable.get(person.getPhone().value));
+                writeVarInt(out, stringTable.get(person.getEmail().value));
+                String[] fragments = splitAddress(person.getAddress().value);
+                writeVarInt(out, fragments.length);
+                for (String fragment : fragments) {
+                    writeVarInt(out, stringTable.get(fragment));
+                }
+                writeVarInt(out, person.getTags().size());
+                for (Tag tag : person.getTags()) {
+                    writeVarInt(out, stringTable.get(tag.tagName));
+                }
+            }
+
+            out.writeLong(checkedStream.getChecksum().getValue());
+        }
+    }
+
+    /**
+     * Converts the json address book at {@code jsonFilePath}, including any journal written alongside it, into a
+     * binary address book at this storage's file path.
+     *
+     * @return true if the json address book was found and converted.
+     * @throws DataConversionException if the json address book is not in the correct format.
+     */
+    public boolean convertFromJson(Path jsonFilePath) throws DataConversionException, IOException {
+        requireNonNull(jsonFilePath);
+
+        Optional<ReadOnlyAddressBook> addressBook = new JournaledAddressBookStorage(jsonFilePath).readAddressBook();
+        if (!addressBook.isPresent()) {
+            return false;
+        }
+        saveAddressBook(addressBook.get());
+        logger.info("Converted json file " + jsonFilePath + " to binary file " + filePath);
+        return true;
+    }
+
+    /**
+     * Reads the address book written by {@link #saveAddressBook(ReadOnlyAddressBook, Path)} from {@code buffer}.
+     *
+     * @throws IllegalValueException if the file is not a supported binary address book, or if there were any data
+     *     constraints violated.
+     */
+    private static AddressBook readPersons(ByteBuffer buffer) throws IllegalValueException {
+        if (buffer.remaining() < HEADER_SIZE + Long.BYTES || buffer.getInt(0) != MAGIC_NUMBER) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY_ADDRESS_BOOK);
+        }
+        short version = buffer.getShort(Integer.BYTES);
+        if (version != FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        int checksumPosition = buffer.limit() - Long.BYTES;
+        CRC32 checksum = new CRC32();
+        checksum.update(buffer.duplicate().limit(checksumPosition));
+        if (checksum.getValue() != buffer.getLong(checksumPosition)) {
+            throw new IllegalValueException(MESSAGE_CHECKSUM_MISMATCH);
+        }
+
+        ByteBuffer records = buffer.duplicate().position(HEADER_SIZE).limit(checksumPosition);
+        try {
+            StringTable stringTable = new StringTable(records);
+            AddressBook addressBook = new AddressBook();
+            int personCount = readCount(records);
+            for (int i = 0; i < personCount; i++) {
+                String name = stringTable.get(readVarInt(records));
+                String phone = stringTable.get(readVarInt(records));
+                String email = stringTable.get(readVarInt(records));
+                int fragmentCount = readCount(records);
+                List<String> fragments = new ArrayList<>(fragmentCount);
+                for (int j = 0; j < fragmentCount; j++) {
+                    fragments.add(stringTable.get(readVarInt(records)));
+                }
+                int tagCount = readCount(records);
+                List<JsonAdaptedTag> tags = new ArrayList<>(tagCount);
+                for (int j = 0; j < tagCount; j++) {
+                    tags.add(new JsonAdaptedTag(stringTable.get(readVarInt(records))));
+                }
+
+                Person person = new JsonAdaptedPerson(name, phone, email,
+                        String.join(ADDRESS_FRAGMENT_SEPARATOR, fragments), tags).toModelType();
+                if (addressBook.hasPerson(person)) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+                }
+                addressBook.addPerson(person);
+            }
+            if (records.hasRemaining()) {
+                throw new IllegalValueException(MESSAGE_CHECKSUM_MISMATCH);
+            }
+            return addressBook;
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new IllegalValueException(MESSAGE_CHECKSUM_MISMATCH, e);
+        }
+    }
+
+    private static void addToStringTable(Map<String, Integer> stringTable, String string) {
+        stringTable.putIfAbsent(string, stringTable.size());
+    }
+
+    private static String[] splitAddress(String address) {
+        return address.split(ADDRESS_FRAGMENT_SEPARATOR, -1);
+    }
+
+    /**
+     * Reads a count or length, which cannot exceed the number of bytes left in {@code buffer}.
+     */
+    private static int readCount(ByteBuffer buffer) throws IllegalValueException {
+        int count = readVarInt(buffer);
+        if (count > buffer.remaining()) {
+            throw new IllegalValueException(MESSAGE_CHECKSUM_MISMATCH);
+        }
+        return count;
+    }
+
+    /**
+     * Writes the non-negative {@code value} using 7 bits per byte, with the high bit set on all but the last byte.
+     */
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        assert value >= 0;
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(ByteBuffer buffer) throws IllegalValueException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            int b = buffer.get() & 0xFF;
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (value < 0) {
+                    break;
+                }
+                return value;
+            }
+        }
+        throw new IllegalValueException(MESSAGE_CHECKSUM_MISMATCH);
+    }
+
+    /**
+     * The string table of a binary address book. Only the position of each string is read up front; a string is
+     * decoded the first time it is looked up, and the decoded string is shared by every later lookup.
+     */
+    private static class StringTable {
+        private final ByteBuffer buffer;
+        private final int[] offsets;
+        private final int[] lengths;
+        private final String[] strings;
+
+        /**
+         * Reads the positions of the strings in the table starting at the position of {@code buffer}, and leaves
+         * {@code buffer} positioned just after the table.
+         */
+        StringTable(ByteBuffer buffer) throws IllegalValueException {
+            this.buffer = buffer.duplicate();
+            int size = readCount(buffer);
+            offsets = new int[size];
+            lengths = new int[size];
+            strings = new String[size];
+            for (int i = 0; i < size; i++) {
+                lengths[i] = readCount(buffer);
+                offsets[i] = buffer.position();
+                buffer.position(offsets[i] + lengths[i]);
+            }
+        }
+
+        String get(int position) throws IllegalValueException {
+            if (position >= strings.length) {
+                throw new IllegalValueException(MESSAGE_CHECKSUM_MISMATCH);
+            }
+            if (strings[position] == null) {
+                byte[] bytes = new byte[lengths[position]];
+                buffer.position(offsets[position]);
+                buffer.get(bytes);
+                strings[position] = new String(bytes, StandardCharsets.UTF_8);
+            }
+            return strings[position];
+        }
+    }
+
+}
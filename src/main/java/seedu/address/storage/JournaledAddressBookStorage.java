@@ -0,0 +1,310 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot file together with an append-only journal of the
+ * changes made since that snapshot was written.
+ * Saving appends a single line describing what changed since the previous save, instead of rewriting every person.
+ * Once the journal holds {@code compactionThreshold} entries, it is compacted back into the snapshot file.
+ * <p>
+ * The journal starts with a header holding the checksum of the snapshot it applies to. Compaction replaces the
+ * snapshot atomically and then deletes the journal, so if it is interrupted in between, the journal left behind no
+ * longer matches the snapshot and is ignored. A journal without a header could belong to any snapshot, so it is
+ * ignored too, as is a journal entry left half-written by a crash.
+ * <p>
+ * The checksum of the snapshot is computed while the snapshot is written, and the persons last saved are kept as an
+ * immutable snapshot, so saving neither reads the snapshot back nor copies the persons list.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 100;
+    public static final String JOURNAL_FILE_EXTENSION = ".journal";
+
+    private static final String TEMP_FILE_EXTENSION = ".tmp";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final Path filePath;
+    private final JsonAddressBookStorage snapshotStorage;
+    private final int compactionThreshold;
+
+    /**
+     * Persons as last written to {@code filePath}, or null if the file may not match any known state or its journal
+     * cannot be appended to.
+     */
+    private AddressBookSnapshot persisted;
+    /** Checksum of the snapshot at {@code filePath}, or null if it has not been computed since it was read. */
+    private Long snapshotChecksum;
+    private int journalSize;
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that compacts the journal after
+     * {@link #DEFAULT_COMPACTION_THRESHOLD} entries.
+     */
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that compacts the journal after {@code compactionThreshold}
+     * entries.
+     */
+    public JournaledAddressBookStorage(Path filePath, int compactionThreshold) {
+        this.filePath = filePath;
+        this.snapshotStorage = new JsonAddressBookStorage(filePath);
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Returns the path of the journal belonging to the snapshot file at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Replays the journal, if any, on top of the snapshot.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the snapshot or the journal is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (!FileUtil.isFileExists(journalFilePath)) {
+            snapshot.ifPresent(addressBook -> markPersisted(filePath, AddressBookSnapshot.of(addressBook), 0, null));
+            return snapshot;
+        }
+
+        List<Person> persons = new ArrayList<>();
+        snapshot.ifPresent(addressBook -> persons.addAll(addressBook.getPersonList()));
+        Long snapshotChecksum = snapshot.isPresent() ? getChecksum(filePath) : null;
+        JournalReplay replay = replayJournal(journalFilePath, persons, snapshotChecksum);
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException dpe) {
+            logger.info("Duplicate persons found after replaying " + journalFilePath + ": " + dpe.getMessage());
+            throw new DataConversionException(dpe);
+        }
+        // persons is not modified from here on, so it can be kept without copying it
+        markPersisted(filePath, AddressBookSnapshot.wrap(persons), replay.entries, snapshotChecksum);
+        if (!replay.isAppendable && filePath.equals(this.filePath)) {
+            persisted = null; // the next save compacts, which discards the journal
+        }
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only the change since the previous save is written, unless the file at {@code filePath} is not known to hold
+     * the previously saved data or the journal is due for compaction.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        AddressBookSnapshot snapshot = AddressBookSnapshot.of(addressBook);
+        if (!filePath.equals(this.filePath) || persisted == null || journalSize >= compactionThreshold) {
+            compact(snapshot, filePath);
+            return;
+        }
+
+        List<Person> persistedPersons = persisted.getPersonList();
+        List<Person> persons = snapshot.getPersonList();
+
+        // The change is the range between the longest unchanged prefix and the longest unchanged suffix
+        int oldEnd = persistedPersons.size();
+        int newEnd = persons.size();
+        int start = 0;
+        while (start < oldEnd && start < newEnd && persistedPersons.get(start).equals(persons.get(start))) {
+            start++;
+        }
+        while (oldEnd > start && newEnd > start
+                && persistedPersons.get(oldEnd - 1).equals(persons.get(newEnd - 1))) {
+            oldEnd--;
+            newEnd--;
+        }
+
+        if (start == oldEnd && start == newEnd) {
+            return; // nothing changed since the previous save
+        }
+
+        JsonAdaptedJournalEntry entry = new JsonAdaptedJournalEntry(start, oldEnd - start,
+                persons.subList(start, newEnd).stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+        Path journalFilePath = getJournalFilePath(filePath);
+        String lines = JsonUtil.toCompactJsonString(entry) + "\n";
+        if (!FileUtil.isFileExists(journalFilePath)) {
+            if (snapshotChecksum == null) {
+                snapshotChecksum = getChecksum(filePath); // only when the snapshot was read rather than written
+            }
+            lines = JsonUtil.toCompactJsonString(new JsonAdaptedJournalHeader(snapshotChecksum)) + "\n" + lines;
+        }
+        FileUtil.appendToFile(journalFilePath, lines);
+        markPersisted(filePath, snapshot, journalSize + 1, snapshotChecksum);
+    }
+
+    /**
+     * Writes {@code snapshot} as a fresh snapshot at {@code filePath} and discards its journal.
+     * The snapshot is written to a temporary file first and then moved into place, so that {@code filePath} always
+     * holds a complete snapshot.
+     */
+    private void compact(AddressBookSnapshot snapshot, Path filePath) throws IOException {
+        logger.fine("Compacting journal into data file: " + filePath);
+        Path tempFilePath = filePath.resolveSibling(filePath.getFileName() + TEMP_FILE_EXTENSION);
+        long checksum = snapshotStorage.saveAddressBookWithChecksum(snapshot, tempFilePath);
+        FileUtil.replaceFile(tempFilePath, filePath);
+        // if this is interrupted here, the journal's header no longer matches the snapshot, so it is not replayed
+        Files.deleteIfExists(getJournalFilePath(filePath));
+        markPersisted(filePath, snapshot, 0, checksum);
+    }
+
+    /**
+     * Applies every entry of the journal at {@code journalFilePath} to {@code persons} in order, if the journal
+     * belongs to the snapshot with checksum {@code snapshotChecksum}, which is null if there is no snapshot.
+     * A journal without a header is ignored, as it cannot be tied to the snapshot. An unreadable last line is taken
+     * to be an entry that was being written when the application stopped, and is skipped.
+     */
+    private static JournalReplay replayJournal(Path journalFilePath, List<Person> persons, Long snapshotChecksum)
+            throws DataConversionException, IOException {
+        int replayedEntries = 0;
+        try (BufferedReader reader = Files.newBufferedReader(journalFilePath, StandardCharsets.UTF_8)) {
+            String line = reader.readLine();
+            if (line == null) {
+                return new JournalReplay(0, false);
+            }
+            if (!isHeader(line)) {
+                logger.warning("Ignoring " + journalFilePath + " as it has no header tying it to the data file");
+                return new JournalReplay(0, false);
+            }
+            JsonAdaptedJournalHeader header = JsonUtil.fromJsonString(line, JsonAdaptedJournalHeader.class);
+            if (snapshotChecksum == null || !header.matches(snapshotChecksum)) {
+                logger.warning("Ignoring " + journalFilePath + " as it does not belong to the data file");
+                return new JournalReplay(0, false);
+            }
+            line = reader.readLine();
+
+            for (String nextLine; line != null; line = nextLine) {
+                nextLine = reader.readLine();
+                if (line.isEmpty()) {
+                    continue;
+                }
+                JsonAdaptedJournalEntry entry;
+                try {
+                    entry = JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class);
+                } catch (JsonProcessingException jpe) {
+                    if (nextLine != null) {
+                        throw jpe;
+                    }
+                    logger.warning("Ignoring incomplete last entry of " + journalFilePath);
+                    return new JournalReplay(replayedEntries, false);
+                }
+                entry.applyTo(persons);
+                replayedEntries++;
+            }
+        } catch (IllegalValueException | JsonProcessingException e) {
+            logger.info("Illegal values found in " + journalFilePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+        return new JournalReplay(replayedEntries, true);
+    }
+
+    /**
+     * Returns true if {@code line} is a journal header rather than an entry.
+     */
+    private static boolean isHeader(String line) {
+        try {
+            return JsonUtil.fromJsonString(line, JsonAdaptedJournalHeader.class).isHeader();
+        } catch (IOException ioe) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the CRC-32 checksum of the file at {@code filePath}.
+     */
+    private static long getChecksum(Path filePath) throws IOException {
+        CRC32 checksum = new CRC32();
+        byte[] buffer = new byte[8192];
+        try (InputStream in = Files.newInputStream(filePath)) {
+            for (int read = in.read(buffer); read != -1; read = in.read(buffer)) {
+                checksum.update(buffer, 0, read);
+            }
+        }
+        return checksum.getValue();
+    }
+
+    private void markPersisted(Path filePath, AddressBookSnapshot snapshot, int journalSize, Long snapshotChecksum) {
+        if (!filePath.equals(this.filePath)) {
+            return;
+        }
+        this.persisted = snapshot;
+        this.journalSize = journalSize;
+        this.snapshotChecksum = snapshotChecksum;
+    }
+
+    /**
+     * The outcome of replaying a journal.
+     */
+    private static class JournalReplay {
+        /** Number of entries applied. */
+        private final int entries;
+        /** Whether further entries can be appended to the journal. */
+        private final boolean isAppendable;
+
+        JournalReplay(int entries, boolean isAppendable) {
+            this.entries = entries;
+            this.isAppendable = isAppendable;
+        }
+    }
+
+}
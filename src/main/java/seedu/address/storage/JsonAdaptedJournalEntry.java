@@ -0,0 +1,59 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of a single change to the person list of an address book.
+ * A change replaces the {@code removed} persons starting at {@code index} with {@code persons}, so adding, editing
+ * and deleting a person are each recorded as one entry.
+ */
+class JsonAdaptedJournalEntry {
+
+    public static final String MESSAGE_INVALID_RANGE = "Journal entry does not fit the persons list!";
+
+    private final int index;
+    private final int removed;
+    private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("index") int index, @JsonProperty("removed") int removed,
+            @JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+        this.index = index;
+        this.removed = removed;
+        if (persons != null) {
+            this.persons.addAll(persons);
+        }
+    }
+
+    /**
+     * Applies this change to {@code personList}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted persons, or if the
+     *     change does not fit within {@code personList}.
+     */
+    public void applyTo(List<Person> personList) throws IllegalValueException {
+        if (index < 0 || removed < 0 || index + removed > personList.size()) {
+            throw new IllegalValueException(MESSAGE_INVALID_RANGE);
+        }
+
+        List<Person> added = new ArrayList<>();
+        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
+            added.add(jsonAdaptedPerson.toModelType());
+        }
+
+        List<Person> replacedRange = personList.subList(index, index + removed);
+        replacedRange.clear();
+        replacedRange.addAll(added);
+    }
+
+}
@@ -0,0 +1,37 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly version of the first line of a journal, which ties the journal to the snapshot it applies to.
+ * A journal whose header does not match the snapshot was left behind by an interrupted compaction, and its entries
+ * are already part of the snapshot.
+ */
+class JsonAdaptedJournalHeader {
+
+    private final Long snapshotChecksum;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalHeader} for the snapshot with the given checksum.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalHeader(@JsonProperty("snapshotChecksum") Long snapshotChecksum) {
+        this.snapshotChecksum = snapshotChecksum;
+    }
+
+    /**
+     * Returns true if this is a header, rather than a journal entry read as one.
+     */
+    public boolean isHeader() {
+        return snapshotChecksum != null;
+    }
+
+    /**
+     * Returns true if this header belongs to the snapshot with checksum {@code checksum}.
+     */
+    public boolean matches(long checksum) {
+        return snapshotChecksum != null && snapshotChecksum == checksum;
+    }
+
+}
@@ -3,22 +3,46 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * The file is read and written as a stream, so the file contents are never held in memory as a whole.
+ * Persons read from the file are converted in parallel, one chunk at a time, while the persons list is parsed.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
+    /** Number of persons parsed before they are converted together. */
+    static final int READ_CHUNK_SIZE = 8 * JsonSerializableAddressBook.CONVERSION_CHUNK_SIZE;
+
+    /** Name of the field holding the persons list, as in {@link JsonSerializableAddressBook}. */
+    private static final String PERSONS_FIELD_NAME = "persons";
+
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
@@ -38,6 +62,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #readAddressBook()}.
+     * Persons are converted one at a time as they are read from the file.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataConversionException if the file is not in the correct format.
@@ -45,14 +70,16 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+        try (JsonParser parser = JsonUtil.createJsonParser(filePath)) {
+            return Optional.of(readPersons(parser));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -66,15 +93,80 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Persons are written one at a time as they are converted.
      *
      * @param filePath location of the data. Cannot be null.
      */
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        saveAddressBookWithChecksum(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook, Path)}.
+     * Returns the CRC-32 checksum of the file written, which is computed as the file is written rather than by
+     * reading it back.
+     */
+    long saveAddressBookWithChecksum(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        CheckedOutputStream out = new CheckedOutputStream(Files.newOutputStream(filePath), new CRC32());
+        try (JsonGenerator generator = JsonUtil.createJsonGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(PERSONS_FIELD_NAME);
+            for (Person person : addressBook.getPersonList()) {
+                generator.writeObject(new JsonAdaptedPerson(person));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+        return out.getChecksum().getValue();
+    }
+
+    /**
+     * Reads an address book in the format written by {@link JsonSerializableAddressBook} from {@code parser}.
+     * Fields other than the persons list are ignored.
+     * Persons are converted in parallel by {@link JsonSerializableAddressBook#convertPersons}, one chunk of
+     * {@link #READ_CHUNK_SIZE} at a time, so the adapted persons of at most one chunk are held at once.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    private static AddressBook readPersons(JsonParser parser) throws IOException, IllegalValueException {
+        List<Person> persons = new ArrayList<>();
+        Set<Name> names = new HashSet<>();
+        List<JsonAdaptedPerson> chunk = new ArrayList<>(READ_CHUNK_SIZE);
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected an address book object");
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken fieldValue = parser.nextToken();
+            if (!fieldName.equals(PERSONS_FIELD_NAME) || fieldValue == JsonToken.VALUE_NULL) {
+                parser.skipChildren();
+                continue;
+            }
+            if (fieldValue != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "Expected a list of persons");
+            }
+
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                chunk.add(parser.readValueAs(JsonAdaptedPerson.class));
+                if (chunk.size() == READ_CHUNK_SIZE) {
+                    JsonSerializableAddressBook.convertPersons(chunk, persons, names, ForkJoinPool.commonPool());
+                    chunk.clear();
+                }
+            }
+            if (parser.getCurrentToken() != JsonToken.END_ARRAY) {
+                throw new JsonParseException(parser, "Expected a person object");
+            }
+        }
+        JsonSerializableAddressBook.convertPersons(chunk, persons, names, ForkJoinPool.commonPool());
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        return addressBook;
     }
 
 }
@@ -1,7 +1,11 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -11,6 +15,7 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 
 /**
@@ -21,6 +26,9 @@ class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
 
+    /** Number of persons below which a conversion task converts its persons itself instead of splitting. */
+    static final int CONVERSION_CHUNK_SIZE = 1024;
+
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
     /**
@@ -42,19 +50,111 @@ class JsonSerializableAddressBook {
 
     /**
      * Converts this address book into the model's {@code AddressBook} object.
+     * Persons are converted in parallel on the common fork/join pool.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
+        return toModelType(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Converts this address book into the model's {@code AddressBook} object, converting persons in parallel on
+     * {@code pool}.
+     * The error reported is the one that converting the persons one at a time, in order, would have run into first.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    AddressBook toModelType(ForkJoinPool pool) throws IllegalValueException {
+        List<Person> converted = new ArrayList<>(persons.size());
+        convertPersons(persons, converted, new HashSet<>(), pool);
+
         AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
+        addressBook.setPersons(converted);
+        return addressBook;
+    }
+
+    /**
+     * Converts {@code adaptedPersons} in parallel on {@code pool}, and appends them in order to
+     * {@code convertedPersons}, whose names are in {@code convertedNames}.
+     * This lets a long persons list be converted one chunk at a time, as it is read.
+     * The error reported is the one that converting the persons one at a time, in order, would have run into first.
+     *
+     * @throws IllegalValueException if there were any data constraints violated, including a person with the same
+     *     name as one converted before.
+     */
+    static void convertPersons(List<JsonAdaptedPerson> adaptedPersons, List<Person> convertedPersons,
+            Set<Name> convertedNames, ForkJoinPool pool) throws IllegalValueException {
+        Person[] converted = new Person[adaptedPersons.size()];
+        ConversionFailure failure = pool.invoke(new ConversionTask(adaptedPersons, converted, 0, converted.length));
+
+        // A duplicate only counts if it comes before the first person that failed to convert
+        int convertedCount = failure == null ? converted.length : failure.index;
+        for (int i = 0; i < convertedCount; i++) {
+            if (!convertedNames.add(converted[i].getName())) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
             }
-            addressBook.addPerson(person);
+            convertedPersons.add(converted[i]);
+        }
+        if (failure != null) {
+            throw failure.cause;
+        }
+    }
+
+    /**
+     * The first person in a range that could not be converted, and why.
+     */
+    private static class ConversionFailure {
+        private final int index;
+        private final IllegalValueException cause;
+
+        ConversionFailure(int index, IllegalValueException cause) {
+            this.index = index;
+            this.cause = cause;
+        }
+    }
+
+    /**
+     * Converts the persons in a range of an adapted persons list, splitting the range in half until it is no larger
+     * than {@link #CONVERSION_CHUNK_SIZE}. Returns the first failure in the range, or null if every person was
+     * converted.
+     */
+    private static class ConversionTask extends RecursiveTask<ConversionFailure> {
+        private static final long serialVersionUID = 1L;
+
+        private final transient List<JsonAdaptedPerson> adaptedPersons;
+        private final Person[] converted;
+        private final int start;
+        private final int end;
+
+        ConversionTask(List<JsonAdaptedPerson> adaptedPersons, Person[] converted, int start, int end) {
+            this.adaptedPersons = adaptedPersons;
+            this.converted = converted;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected ConversionFailure compute() {
+            if (end - start > CONVERSION_CHUNK_SIZE) {
+                int middle = (start + end) >>> 1;
+                ConversionTask right = new ConversionTask(adaptedPersons, converted, middle, end);
+                right.fork();
+                ConversionFailure leftFailure = new ConversionTask(adaptedPersons, converted, start, middle)
+                        .compute();
+                ConversionFailure rightFailure = right.join();
+                return leftFailure != null ? leftFailure : rightFailure;
+            }
+
+            for (int i = start; i < end; i++) {
+                try {
+                    converted[i] = adaptedPersons.get(i).toModelType();
+                } catch (IllegalValueException ive) {
+                    return new ConversionFailure(i, ive);
+                }
+            }
+            return null;
         }
-        return addressBook;
     }
 
 }
@@ -0,0 +1,162 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.person.Person;
+
+/**
+ * Exports persons to a CSV or JSON lines file for use by other programs.
+ * Each person is written to the file as soon as it is converted, so the memory used does not grow with the number of
+ * persons exported. Exports scheduled with {@link #exportInBackground} run on the executor the exporter was created
+ * with, so the owner of the executor decides which thread they run on and waits for them before exiting.
+ */
+public class PersonListExporter {
+
+    /**
+     * A format that persons can be exported in.
+     */
+    public enum Format {
+        /** A header row followed by one row per person, with tags separated by semicolons. */
+        CSV,
+        /** One JSON object per line, in the same form as in the address book data file. */
+        JSON_LINES
+    }
+
+    public static final String CSV_HEADER = "name,phone,email,address,tags";
+    public static final String CSV_TAG_SEPARATOR = ";";
+
+    private static final Logger logger = LogsCenter.getLogger(PersonListExporter.class);
+
+    private final Executor executor;
+
+    /**
+     * Creates a {@code PersonListExporter} that runs the exports scheduled with {@link #exportInBackground} on
+     * {@code executor}.
+     */
+    public PersonListExporter(Executor executor) {
+        requireNonNull(executor);
+        this.executor = executor;
+    }
+
+    /**
+     * Returns the format named by the extension of {@code file}: {@code .csv} for CSV, and {@code .jsonl} or
+     * {@code .ndjson} for JSON lines.
+     */
+    public static Optional<Format> getFormat(Path file) {
+        requireNonNull(file);
+        String fileName = file.getFileName() == null ? "" : file.getFileName().toString().toLowerCase();
+        if (fileName.endsWith(".csv")) {
+            return Optional.of(Format.CSV);
+        } else if (fileName.endsWith(".jsonl") || fileName.endsWith(".ndjson")) {
+            return Optional.of(Format.JSON_LINES);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Schedules {@code persons} to be exported to {@code file} in {@code format} on the executor, and
+     * logs the outcome. Persons are immutable, so {@code persons} only needs to be a copy of the list.
+     * @return the number of bytes written, once the export completes.
+     */
+    public CompletableFuture<Long> exportInBackground(List<Person> persons, Path file, Format format) {
+        requireAllNonNull(persons, file, format);
+        return CompletableFuture.supplyAsync(() -> {
+            long startNanos = System.nanoTime();
+            long bytesWritten;
+            try {
+                bytesWritten = export(persons, file, format);
+            } catch (IOException ioe) {
+                logger.warning("Failed to export persons to " + file + ": " + ioe);
+                throw new UncheckedIOException(ioe);
+            }
+            long elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+            logger.info("Exported " + persons.size() + " persons to " + file + ": " + bytesWritten + " bytes in "
+                    + elapsedMillis + "ms (" + bytesWritten * 1000 / elapsedMillis + " bytes/second)");
+            return bytesWritten;
+        }, executor);
+    }
+
+    /**
+     * Exports {@code persons} to {@code file} in {@code format} on the calling thread.
+     * Overwrites the file if it exists, creates it if it doesn't.
+     * @return the number of bytes written.
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static long export(List<Person> persons, Path file, Format format) throws IOException {
+        requireAllNonNull(persons, file, format);
+        switch (format) {
+        case CSV:
+            exportCsv(persons, file);
+            break;
+        case JSON_LINES:
+            exportJsonLines(persons, file);
+            break;
+        default:
+            throw new AssertionError("Unknown format " + format);
+        }
+        return Files.size(file);
+    }
+
+    private static void exportCsv(List<Person> persons, Path file) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(file)) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+            for (Person person : persons) {
+                writeCsvField(writer, person.getName().fullName);
+                writer.write(',');
+                writeCsvField(writer, person.getPhone().value);
+                writer.write(',');
+                writeCsvField(writer, person.getEmail().value);
+                writer.write(',');
+                writeCsvField(writer, person.getAddress().value);
+                writer.write(',');
+                writeCsvField(writer, person.getTags().stream()
+                        .map(tag -> tag.tagName)
+                        .collect(Collectors.joining(CSV_TAG_SEPARATOR)));
+                writer.write('\n');
+            }
+        }
+    }
+
+    /**
+     * Writes {@code value} as a CSV field, quoting it as in RFC 4180 if it contains a comma, quote or line break.
+     */
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        if (value.indexOf(',') == -1 && value.indexOf('"') == -1 && value.indexOf('\n') == -1
+                && value.indexOf('\r') == -1) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static void exportJsonLines(List<Person> persons, Path file) throws IOException {
+        try (JsonGenerator generator = JsonUtil.createJsonLinesGenerator(Files.newOutputStream(file))) {
+            for (Person person : persons) {
+                generator.writeObject(new JsonAdaptedPerson(person));
+                generator.writeRaw('\n');
+            }
+        }
+    }
+
+}
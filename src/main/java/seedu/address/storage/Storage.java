@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -29,4 +30,26 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Saves {@code addressBook}, possibly in the background.
+     * The returned future completes once {@code addressBook} has been written, or completes exceptionally with the
+     * {@code IOException} that kept it from being written. By default, the address book is saved before returning.
+     */
+    default CompletableFuture<Void> saveAddressBookInBackground(ReadOnlyAddressBook addressBook) {
+        CompletableFuture<Void> saved = new CompletableFuture<>();
+        try {
+            saveAddressBook(addressBook);
+            saved.complete(null);
+        } catch (IOException ioe) {
+            saved.completeExceptionally(ioe);
+        }
+        return saved;
+    }
+
+    /**
+     * Blocks until every address book save requested so far has been written.
+     * @throws IOException if there was any problem writing a previously saved address book.
+     */
+    void flush() throws IOException;
+
 }
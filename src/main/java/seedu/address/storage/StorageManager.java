@@ -76,4 +76,9 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void flush() {
+        // address book saves are written before saveAddressBook returns, so there is nothing pending
+    }
+
 }
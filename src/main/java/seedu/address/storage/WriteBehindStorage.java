@@ -0,0 +1,259 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+
+/**
+ * A {@code Storage} that writes address book saves to another {@code Storage} on a background thread.
+ * Saving only takes a snapshot of the persons list, which is cheap as persons are immutable, and returns immediately.
+ * Saves requested while an earlier one is still being written are coalesced, so only the latest snapshot is written.
+ * A failed write is retried a few times. If it still fails, the snapshot is kept and written again with the next save
+ * or flush, and the failure is reported through the futures of {@link #saveAddressBookInBackground} and by the next
+ * call to {@link #saveAddressBook(ReadOnlyAddressBook)} or {@link #flush()}.
+ */
+public class WriteBehindStorage implements Storage {
+
+    /** Number of times a snapshot is written before giving up until the next save or flush. */
+    static final int MAX_WRITE_ATTEMPTS = 3;
+    static final long RETRY_DELAY_MILLIS = 100;
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindStorage.class);
+
+    private final Storage storage;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "AddressBook writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // All fields below are guarded by this object's lock
+    private ReadOnlyAddressBook pendingAddressBook;
+    private List<CompletableFuture<Void>> pendingSaves = new ArrayList<>();
+    /** The latest snapshot, if it could not be written and no later snapshot has been scheduled since. */
+    private ReadOnlyAddressBook unwrittenAddressBook;
+    private boolean isWriting;
+    private IOException writeFailure;
+    private long coalescedSaves;
+
+    /**
+     * Creates a {@code WriteBehindStorage} that writes to {@code storage}.
+     */
+    public WriteBehindStorage(Storage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ AddressBook methods ==============================
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(storage.getAddressBookFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        flush();
+        return storage.readAddressBook(filePath);
+    }
+
+    /**
+     * Schedules a snapshot of {@code addressBook} to be written in the background.
+     * @throws IOException if writing a previously saved address book failed. The snapshot of {@code addressBook} is
+     *     still scheduled to be written.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        synchronized (this) {
+            scheduleSave(addressBook);
+            throwWriteFailure();
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code filePath} once all pending saves have been written.
+     * Unlike {@link #saveAddressBook(ReadOnlyAddressBook)}, this method only returns after the write.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        flush();
+        storage.saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Schedules a snapshot of {@code addressBook} to be written in the background.
+     * If a later save is requested before the snapshot is written, the returned future completes with that later
+     * save instead.
+     */
+    @Override
+    public CompletableFuture<Void> saveAddressBookInBackground(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        synchronized (this) {
+            return scheduleSave(addressBook);
+        }
+    }
+
+    private CompletableFuture<Void> scheduleSave(ReadOnlyAddressBook addressBook) {
+        assert Thread.holdsLock(this);
+        if (pendingAddressBook != null) {
+            coalescedSaves++;
+        }
+        pendingAddressBook = AddressBookSnapshot.of(addressBook);
+        unwrittenAddressBook = null;
+        CompletableFuture<Void> saved = new CompletableFuture<>();
+        pendingSaves.add(saved);
+        if (!isWriting) {
+            isWriting = true;
+            writer.execute(this::writePendingAddressBooks);
+        }
+        return saved;
+    }
+
+    /**
+     * {@inheritDoc}
+     * If the latest snapshot could not be written in the background, it is written once more before returning.
+     */
+    @Override
+    public void flush() throws IOException {
+        synchronized (this) {
+            while (isWriting) {
+                try {
+                    wait();
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while waiting for address book to be saved");
+                }
+            }
+            if (unwrittenAddressBook != null) {
+                storage.saveAddressBook(unwrittenAddressBook);
+                unwrittenAddressBook = null;
+                writeFailure = null;
+            }
+            throwWriteFailure();
+        }
+        storage.flush();
+    }
+
+    /**
+     * Returns the number of saves that were superseded by a later save before being written.
+     */
+    public synchronized long getCoalescedSaves() {
+        return coalescedSaves;
+    }
+
+    /**
+     * Writes pending snapshots until there are none left.
+     */
+    private void writePendingAddressBooks() {
+        while (true) {
+            ReadOnlyAddressBook addressBook;
+            List<CompletableFuture<Void>> saves;
+            synchronized (this) {
+                if (pendingAddressBook == null) {
+                    isWriting = false;
+                    notifyAll();
+                    return;
+                }
+                addressBook = pendingAddressBook;
+                pendingAddressBook = null;
+                saves = pendingSaves;
+                pendingSaves = new ArrayList<>();
+            }
+
+            IOException failure = write(addressBook);
+            if (failure == null) {
+                saves.forEach(saved -> saved.complete(null));
+                continue;
+            }
+            synchronized (this) {
+                if (pendingAddressBook != null) {
+                    // The later snapshot supersedes this one, so these saves succeed or fail with it
+                    pendingSaves.addAll(saves);
+                    continue;
+                }
+                writeFailure = failure;
+                unwrittenAddressBook = addressBook;
+            }
+            logger.warning("Failed to save address book in the background: " + failure);
+            saves.forEach(saved -> saved.completeExceptionally(failure));
+        }
+    }
+
+    /**
+     * Writes {@code addressBook}, trying again after a short delay if writing fails, unless a later snapshot is
+     * scheduled in the meantime.
+     * @return the failure of the last attempt, or null if {@code addressBook} was written.
+     */
+    private IOException write(ReadOnlyAddressBook addressBook) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                storage.saveAddressBook(addressBook);
+                return null;
+            } catch (IOException ioe) {
+                synchronized (this) {
+                    if (attempt == MAX_WRITE_ATTEMPTS || pendingAddressBook != null) {
+                        return ioe;
+                    }
+                }
+                logger.fine("Failed to save address book, trying again (attempt " + attempt + "): " + ioe);
+                try {
+                    Thread.sleep(RETRY_DELAY_MILLIS * attempt);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return ioe;
+                }
+            }
+        }
+    }
+
+    /**
+     * Throws and clears the failure of the last background write, if any.
+     */
+    private void throwWriteFailure() throws IOException {
+        assert Thread.holdsLock(this);
+        if (writeFailure != null) {
+            IOException failure = writeFailure;
+            writeFailure = null;
+            throw failure;
+        }
+    }
+
+}
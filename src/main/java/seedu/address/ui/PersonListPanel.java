@@ -31,8 +31,11 @@ public class PersonListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
+     * The {@code ListView} reuses cells while scrolling, so each cell loads its card once and then only updates it.
      */
     class PersonListViewCell extends ListCell<Person> {
+        private PersonCard personCard;
+
         @Override
         protected void updateItem(Person person, boolean empty) {
             super.updateItem(person, empty);
@@ -40,8 +43,12 @@ public class PersonListPanel extends UiPart<Region> {
             if (empty || person == null) {
                 setGraphic(null);
                 setText(null);
+            } else if (personCard == null) {
+                personCard = new PersonCard(person, getIndex() + 1);
+                setGraphic(personCard.getRoot());
             } else {
-                setGraphic(new PersonCard(person, getIndex() + 1).getRoot());
+                personCard.setPerson(person, getIndex() + 1);
+                setGraphic(personCard.getRoot());
             }
         }
     }
@@ -13,6 +13,8 @@ public class ResultDisplay extends UiPart<Region> {
 
     private static final String FXML = "ResultDisplay.fxml";
 
+    private final ResultFeedback feedback = new ResultFeedback();
+
     @FXML
     private TextArea resultDisplay;
 
@@ -20,9 +22,24 @@ public class ResultDisplay extends UiPart<Region> {
         super(FXML);
     }
 
-    public void setFeedbackToUser(String feedbackToUser) {
+    /**
+     * Shows the feedback of a new command.
+     * @return the number of the command, to pass to {@link #appendFeedbackToUser} for its background feedback.
+     */
+    public long setFeedbackToUser(String feedbackToUser) {
         requireNonNull(feedbackToUser);
-        resultDisplay.setText(feedbackToUser);
+        long commandNumber = feedback.setFeedback(feedbackToUser);
+        resultDisplay.setText(feedback.getText());
+        return commandNumber;
+    }
+
+    /**
+     * Adds {@code moreFeedbackToUser} from the background work of command number {@code commandNumber}, entered as
+     * {@code commandText}, on a new line. If a later command's feedback is shown, the line names the command.
+     */
+    public void appendFeedbackToUser(long commandNumber, String commandText, String moreFeedbackToUser) {
+        feedback.addBackgroundFeedback(commandNumber, commandText, moreFeedbackToUser);
+        resultDisplay.setText(feedback.getText());
     }
 
 }
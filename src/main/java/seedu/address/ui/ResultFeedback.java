@@ -0,0 +1,43 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+/**
+ * The feedback shown in the result display: the feedback of the latest command, followed by the feedback its
+ * background work adds once that work finishes.
+ * Background feedback that arrives after a later command's feedback has replaced it is added on a line of its own,
+ * naming the command it belongs to, so that it is not mistaken for feedback on the later command.
+ */
+class ResultFeedback {
+
+    static final String MESSAGE_EARLIER_COMMAND = "[%1$s] %2$s";
+
+    private long commandNumber;
+    private String text = "";
+
+    /**
+     * Replaces the feedback shown with the feedback of a new command.
+     * @return the number of the new command, to pass to {@link #addBackgroundFeedback} later.
+     */
+    long setFeedback(String feedback) {
+        requireNonNull(feedback);
+        text = feedback;
+        return ++commandNumber;
+    }
+
+    /**
+     * Adds {@code backgroundFeedback} from command number {@code commandNumber}, which was entered as
+     * {@code commandText}.
+     */
+    void addBackgroundFeedback(long commandNumber, String commandText, String backgroundFeedback) {
+        requireAllNonNull(commandText, backgroundFeedback);
+        text += "\n" + (commandNumber == this.commandNumber
+                ? backgroundFeedback
+                : String.format(MESSAGE_EARLIER_COMMAND, commandText, backgroundFeedback));
+    }
+
+    String getText() {
+        return text;
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+public class CaseInsensitiveWordTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new CaseInsensitiveWord(null));
+    }
+
+    @Test
+    public void constructor_invalidWord_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, CaseInsensitiveWord.MESSAGE_EMPTY_WORD, ()
+            -> new CaseInsensitiveWord(" \t "));
+        assertThrows(IllegalArgumentException.class, CaseInsensitiveWord.MESSAGE_MULTIPLE_WORDS, ()
+            -> new CaseInsensitiveWord("aaa\tBBB"));
+    }
+
+    @Test
+    public void isContainedIn_nullSentence_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new CaseInsensitiveWord("abc").isContainedIn(null));
+    }
+
+    @Test
+    public void isContainedIn_validInputs_correctResult() {
+        CaseInsensitiveWord word = new CaseInsensitiveWord("  bBb ");
+        assertTrue(word.isContainedIn("aaa BBB ccc"));
+        assertTrue(word.isContainedIn("bbb"));
+        assertTrue(word.isContainedIn("\taaa\r\nbbb\f"));
+        assertFalse(word.isContainedIn(""));
+        assertFalse(word.isContainedIn("bbbb bb"));
+        assertFalse(word.isContainedIn("aaa_bbb"));
+    }
+
+    @Test
+    public void isContainedIn_sameAsSplittingSentence() {
+        String[] sentences = {"", " ", "Alice Pauline", "  alice   PAULINE  ", "Alice\u00A0Pauline",
+            "alice\u000Bpauline", "ALICE", "Alic", "Alicee", "x alice", "K\u212Aa"};
+        String[] words = {"alice", "Pauline", " ALICE ", "kka", "e"};
+        for (String sentence : sentences) {
+            for (String word : words) {
+                boolean expected = Arrays.stream(sentence.split("\\s+")).anyMatch(word.trim()::equalsIgnoreCase);
+                assertEquals(expected, new CaseInsensitiveWord(word).isContainedIn(sentence), sentence + "/" + word);
+            }
+        }
+    }
+
+    @Test
+    public void isPrefixOfWordIn_validInputs_correctResult() {
+        CaseInsensitiveWord word = new CaseInsensitiveWord(" bB ");
+        assertTrue(word.isPrefixOfWordIn("aaa BBB ccc"));
+        assertTrue(word.isPrefixOfWordIn("bb"));
+        assertTrue(word.isPrefixOfWordIn("\taaa\r\nbbbb"));
+        assertFalse(word.isPrefixOfWordIn(""));
+        assertFalse(word.isPrefixOfWordIn("b abb"));
+        assertThrows(NullPointerException.class, () -> word.isPrefixOfWordIn(null));
+    }
+
+    @Test
+    public void equals() {
+        CaseInsensitiveWord word = new CaseInsensitiveWord("abc");
+        assertTrue(word.equals(word));
+        assertTrue(word.equals(new CaseInsensitiveWord(" abc ")));
+        assertFalse(word.equals(new CaseInsensitiveWord("ABC")));
+        assertFalse(word.equals(null));
+        assertFalse(word.equals("abc"));
+    }
+}
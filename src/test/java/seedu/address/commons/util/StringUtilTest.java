@@ -123,6 +123,25 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for containsIgnoreCase --------------------------------------
+
+    @Test
+    public void containsIgnoreCase_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.containsIgnoreCase(null, "abc"));
+        assertThrows(NullPointerException.class, () -> StringUtil.containsIgnoreCase("abc", null));
+    }
+
+    @Test
+    public void containsIgnoreCase_validInputs_correctResult() {
+        assertTrue(StringUtil.containsIgnoreCase("abc", "")); // Boundary case
+        assertTrue(StringUtil.containsIgnoreCase("Clementi Ave", "ti a")); // Across words
+        assertTrue(StringUtil.containsIgnoreCase("alice@EXAMPLE.com", "example")); // At the middle
+        assertTrue(StringUtil.containsIgnoreCase("abc", "ABC")); // Whole string
+        assertFalse(StringUtil.containsIgnoreCase("", "a")); // Boundary case
+        assertFalse(StringUtil.containsIgnoreCase("abc", "abcd")); // Part longer than string
+        assertFalse(StringUtil.containsIgnoreCase("abc", "ac"));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
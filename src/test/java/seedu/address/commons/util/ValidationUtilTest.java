@@ -0,0 +1,60 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class ValidationUtilTest {
+
+    /** Strings covering the edge cases of each check, including non-ASCII letters and digits. */
+    private static final String[] SAMPLE_STRINGS = {"", " ", "a", "Z", "0", "9", "12", "123", "1234567890", "abc",
+        "ABC123", "a b", " a", "a ", "a  b", "a\tb", "a_b", "a-b",
+        "caf\u00E9", "\u0661\u0662\u0663", "\uFF11\uFF12\uFF13",
+        "12 3", "+6512345678", "Peter Jack", "peter*", "a\nb"};
+
+    @Test
+    public void isAlphanumeric() {
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isAlphanumeric(null));
+
+        assertFalse(ValidationUtil.isAlphanumeric(""));
+        assertFalse(ValidationUtil.isAlphanumeric("a b"));
+        assertFalse(ValidationUtil.isAlphanumeric("caf\u00E9"));
+        assertTrue(ValidationUtil.isAlphanumeric("friends"));
+        assertTrue(ValidationUtil.isAlphanumeric("Owes42"));
+
+        for (String sample : SAMPLE_STRINGS) {
+            assertEquals(sample.matches("\\p{Alnum}+"), ValidationUtil.isAlphanumeric(sample), sample);
+        }
+    }
+
+    @Test
+    public void isAlphanumericWithSpaces() {
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isAlphanumericWithSpaces(null));
+
+        assertFalse(ValidationUtil.isAlphanumericWithSpaces(""));
+        assertFalse(ValidationUtil.isAlphanumericWithSpaces(" Peter"));
+        assertTrue(ValidationUtil.isAlphanumericWithSpaces("Peter Jack "));
+
+        for (String sample : SAMPLE_STRINGS) {
+            assertEquals(sample.matches("[\\p{Alnum}][\\p{Alnum} ]*"), ValidationUtil.isAlphanumericWithSpaces(sample),
+                    sample);
+        }
+    }
+
+    @Test
+    public void isDigits() {
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isDigits(null, 0));
+
+        assertFalse(ValidationUtil.isDigits("12", 3));
+        assertFalse(ValidationUtil.isDigits("12a", 3));
+        assertTrue(ValidationUtil.isDigits("", 0));
+        assertTrue(ValidationUtil.isDigits("123", 3));
+
+        for (String sample : SAMPLE_STRINGS) {
+            assertEquals(sample.matches("\\d{3,}"), ValidationUtil.isDigits(sample, 3), sample);
+        }
+    }
+}
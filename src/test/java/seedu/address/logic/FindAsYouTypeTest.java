@@ -0,0 +1,167 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearch;
+import seedu.address.testutil.PersonBuilder;
+
+public class FindAsYouTypeTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    /** Tasks for the thread owning the model, which is the test thread. */
+    private final BlockingQueue<Runnable> uiTasks = new LinkedBlockingQueue<>();
+    private final FindAsYouType findAsYouType = new FindAsYouType(model, uiTasks::add, 0);
+
+    @Test
+    public void update_findCommand_namesStartingWithKeywordsShown() throws Exception {
+        findAsYouType.update("find meier");
+        runUiTasksUntilShown(Arrays.asList(BENSON, DANIEL));
+
+        // partly typed keyword
+        findAsYouType.update("find ali");
+        runUiTasksUntilShown(Collections.singletonList(ALICE));
+
+        // any keyword matches, at the start of a word
+        findAsYouType.update("  find KURZ kunz mei ");
+        runUiTasksUntilShown(Arrays.asList(BENSON, CARL, DANIEL, FIONA));
+    }
+
+    @Test
+    public void update_keywordTypedForward_onlyPreviousMatchesSearched() throws Exception {
+        findAsYouType.update("find k");
+        runUiTasksUntilShown(Arrays.asList(CARL, FIONA));
+
+        // not searched, as the address book is only modified by commands, which reset the search
+        Person kurt = new PersonBuilder().withName("Kurt Kunz").build();
+        model.addPerson(kurt);
+        findAsYouType.update("find kur");
+        runUiTasksUntilShown(Collections.singletonList(CARL));
+
+        // a new keyword widens the matches, so the whole address book is searched
+        findAsYouType.update("find kur be");
+        runUiTasksUntilShown(Arrays.asList(BENSON, CARL, GEORGE, kurt));
+    }
+
+    @Test
+    public void update_keywordDeleted_onlyPreviousMatchesSearched() throws Exception {
+        findAsYouType.update("find kurz kunz");
+        runUiTasksUntilShown(Arrays.asList(CARL, FIONA));
+
+        // not searched, as the address book is only modified by commands, which reset the search
+        Person kurt = new PersonBuilder().withName("Kurt Kunz").build();
+        model.addPerson(kurt);
+        findAsYouType.update("find kunz");
+        runUiTasksUntilShown(Collections.singletonList(FIONA));
+
+        // no longer narrowing, so the whole address book is searched
+        findAsYouType.update("find kunz alice");
+        runUiTasksUntilShown(Arrays.asList(ALICE, FIONA, kurt));
+    }
+
+    @Test
+    public void update_supersededQuery_onlyLatestShown() throws Exception {
+        findAsYouType.update("find alice");
+        findAsYouType.update("find benson");
+        runUiTasksUntilShown(Collections.singletonList(BENSON));
+
+        // results of the superseded search, if any, are ignored
+        runRemainingUiTasks();
+        assertEquals(Collections.singletonList(BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void update_notFindCommand_fullListShown() throws Exception {
+        // other commands, search flags and field queries are not previewed
+        findAsYouType.update("list");
+        findAsYouType.update("find -p ali");
+        findAsYouType.update("find n/alice");
+        findAsYouType.update("find ");
+        runRemainingUiTasks();
+        assertEquals(getTypicalPersons(), model.getFilteredPersonList());
+
+        findAsYouType.update("find alice");
+        runUiTasksUntilShown(Collections.singletonList(ALICE));
+        findAsYouType.update("find");
+        assertEquals(getTypicalPersons(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void update_findCommandCleared_previousListRestored() throws Exception {
+        model.updateFilteredPersonListBySearch(new PersonSearch(PersonSearch.Mode.PREFIX, Arrays.asList("meier",
+                "dan")));
+        List<Person> previousList = Arrays.asList(DANIEL, BENSON);
+        assertEquals(previousList, model.getFilteredPersonList());
+
+        findAsYouType.update("find alice");
+        runUiTasksUntilShown(Collections.singletonList(ALICE));
+        findAsYouType.update("find carl");
+        runUiTasksUntilShown(Collections.singletonList(CARL));
+
+        // the filter and the order from before the preview are restored
+        findAsYouType.update("");
+        assertEquals(previousList, model.getFilteredPersonList());
+    }
+
+    @Test
+    public void reset_afterSearch_listKept() throws Exception {
+        findAsYouType.update("find alice");
+        runUiTasksUntilShown(Collections.singletonList(ALICE));
+        findAsYouType.update("find alicex");
+        findAsYouType.reset();
+        findAsYouType.update("");
+        runRemainingUiTasks();
+        assertEquals(Collections.singletonList(ALICE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void update_longDebounce_nothingShownWhileTyping() throws Exception {
+        FindAsYouType slowFindAsYouType = new FindAsYouType(model, uiTasks::add, TimeUnit.MINUTES.toMillis(1));
+        slowFindAsYouType.update("find alice");
+        assertNull(uiTasks.poll(100, TimeUnit.MILLISECONDS));
+        assertEquals(getTypicalPersons(), model.getFilteredPersonList());
+    }
+
+    /**
+     * Runs tasks published for the thread owning the model until {@code expected} is shown.
+     */
+    private void runUiTasksUntilShown(List<Person> expected) throws InterruptedException {
+        while (!model.getFilteredPersonList().equals(expected)) {
+            Runnable task = uiTasks.poll(5, TimeUnit.SECONDS);
+            assertNotNull(task, "Timed out waiting for " + expected + " to be shown");
+            task.run();
+        }
+    }
+
+    /**
+     * Runs tasks published for the thread owning the model until none are published for a while.
+     */
+    private void runRemainingUiTasks() throws InterruptedException {
+        Runnable task;
+        while ((task = uiTasks.poll(200, TimeUnit.MILLISECONDS)) != null) {
+            task.run();
+        }
+    }
+}
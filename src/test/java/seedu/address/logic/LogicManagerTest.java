@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -11,7 +13,10 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -20,7 +25,9 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RunCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -30,6 +37,7 @@ import seedu.address.model.person.Person;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
+import seedu.address.storage.WriteBehindStorage;
 import seedu.address.testutil.PersonBuilder;
 
 public class LogicManagerTest {
@@ -88,6 +96,120 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_previousSaveFailed_retriesSaving() throws Exception {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionAddressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
+        LogicManager logicManager = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+
+        // first command saves as the address book has never been saved
+        assertThrows(CommandException.class, () -> logicManager.execute(ListCommand.COMMAND_WORD));
+        assertEquals(0, logicManager.getSavesAvoided());
+
+        // saving is retried as the previous save failed
+        assertThrows(CommandException.class, () -> logicManager.execute(ListCommand.COMMAND_WORD));
+        assertEquals(0, logicManager.getSavesAvoided());
+    }
+
+    @Test
+    public void execute_backgroundSaveFailed_failureReportedAndSavingRetried() throws Exception {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionAddressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
+        LogicManager logicManager = new LogicManager(model,
+                new WriteBehindStorage(new StorageManager(addressBookStorage, userPrefsStorage)));
+
+        // the command succeeds, and the failure to save is added to its feedback once the write has failed
+        CommandResult result = logicManager.execute(ListCommand.COMMAND_WORD);
+        assertEquals(ListCommand.MESSAGE_SUCCESS, result.getFeedbackToUser());
+        assertEquals(Optional.of(LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION),
+                result.getBackgroundFeedback().get());
+
+        // saving is retried as the address book was never written
+        logicManager.execute(ListCommand.COMMAND_WORD).getBackgroundFeedback().get();
+        assertEquals(0, logicManager.getSavesAvoided());
+    }
+
+    @Test
+    public void execute_backgroundSaveSucceeded_nextReadOnlyCommandSkipsSaving() throws Exception {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        LogicManager logicManager = new LogicManager(model,
+                new WriteBehindStorage(new StorageManager(addressBookStorage, userPrefsStorage)));
+
+        assertEquals(Optional.empty(), logicManager.execute(ListCommand.COMMAND_WORD).getBackgroundFeedback().get());
+        logicManager.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, logicManager.getSavesAvoided());
+    }
+
+    @Test
+    public void execute_readOnlyCommandAfterSave_skipsSaving() throws Exception {
+        Path addressBookFilePath = temporaryFolder.resolve("addressBook.json");
+        LogicManager logicManager = (LogicManager) logic;
+        logicManager.execute(ListCommand.COMMAND_WORD);
+        assertEquals(0, logicManager.getSavesAvoided());
+
+        Files.delete(addressBookFilePath);
+        logicManager.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, logicManager.getSavesAvoided());
+        assertFalse(Files.exists(addressBookFilePath));
+
+        logicManager.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY);
+        assertEquals(1, logicManager.getSavesAvoided());
+        assertTrue(Files.exists(addressBookFilePath));
+    }
+
+    @Test
+    public void registerCommand_newCommand_executedAndSaved() throws Exception {
+        Path addressBookFilePath = temporaryFolder.resolve("addressBook.json");
+        logic.registerCommand("addamy", arguments -> new AddCommand(AMY));
+
+        ModelManager expectedModel = new ModelManager();
+        expectedModel.addPerson(AMY);
+        assertCommandSuccess("addamy", String.format(AddCommand.MESSAGE_SUCCESS, AMY), expectedModel);
+        assertEquals(expectedModel.getAddressBook(),
+                new JsonAddressBookStorage(addressBookFilePath).readAddressBook().get());
+    }
+
+    @Test
+    public void registerCommand_newCommandInRunFile_executed() throws Exception {
+        logic.registerCommand("addamy", arguments -> new AddCommand(AMY));
+        Path file = temporaryFolder.resolve("commands.txt");
+        Files.write(file, Collections.singletonList("addamy"));
+
+        logic.execute(RunCommand.COMMAND_WORD + " " + file);
+        ModelManager expectedModel = new ModelManager();
+        expectedModel.addPerson(AMY);
+        assertEquals(expectedModel, model);
+    }
+
+    @Test
+    public void registerCommand_duplicateCommandWord_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                logic.registerCommand(ListCommand.COMMAND_WORD, arguments -> new ListCommand()));
+    }
+
+    @Test
+    public void registerAlias_builtInCommand_executed() throws Exception {
+        logic.registerAlias("ls", ListCommand.COMMAND_WORD);
+        assertCommandSuccess("ls", ListCommand.MESSAGE_SUCCESS, model);
+    }
+
+    @Test
+    public void constructor_injectedParser_commandsParsedWithIt() throws Exception {
+        AddressBookParser addressBookParser = new AddressBookParser();
+        addressBookParser.registerAlias("ls", ListCommand.COMMAND_WORD);
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(temporaryFolder.resolve("ab.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, storage, addressBookParser);
+        assertCommandSuccess("ls", ListCommand.MESSAGE_SUCCESS, model);
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
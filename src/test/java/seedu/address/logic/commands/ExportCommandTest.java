@@ -0,0 +1,135 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.parser.ImportCommandParser;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.PersonListExporter;
+import seedu.address.storage.PersonListExporter.Format;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ExportCommand}.
+ */
+public class ExportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private PersonListExporter exporter = new PersonListExporter(Runnable::run);
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void constructor_nullFormat_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ExportCommand(Paths.get("friends.csv"), null, exporter));
+    }
+
+    @Test
+    public void execute_filteredList_displayedPersonsExportedAndImportable() throws Exception {
+        Path file = testFolder.resolve("persons.csv");
+        showPersonAtIndex(model, INDEX_SECOND_PERSON);
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        showPersonAtIndex(expectedModel, INDEX_SECOND_PERSON);
+
+        String expectedMessage = String.format(ExportCommand.MESSAGE_SUCCESS, 1, file);
+        assertCommandSuccess(new ExportCommand(file, Format.CSV, exporter), model, expectedMessage, expectedModel);
+
+        Model importedModel = new ModelManager();
+        new ImportCommandParser().parse(file.toString()).execute(importedModel);
+        assertEquals(Collections.singletonList(BENSON), importedModel.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void execute_exportDone_bytesWrittenAndRateReported() throws Exception {
+        Path file = testFolder.resolve("persons.jsonl");
+        CommandResult result = new ExportCommand(file, Format.JSON_LINES, exporter).execute(model);
+
+        String feedback = result.getBackgroundFeedback().get().get();
+        String expectedPrefix = String.format("Exported %1$d persons to %2$s: %3$d bytes in ",
+                model.getFilteredPersonList().size(), file, Files.size(file));
+        assertTrue(feedback.startsWith(expectedPrefix), feedback);
+        assertTrue(feedback.endsWith(" bytes/second)"), feedback);
+    }
+
+    @Test
+    public void execute_exportFailed_failureReported() throws Exception {
+        Path folder = Files.createDirectory(testFolder.resolve("removed"));
+        Path file = folder.resolve("persons.csv");
+        // the folder is removed after the command checks it, but before the file is written
+        PersonListExporter removingExporter = new PersonListExporter(task -> {
+            try {
+                Files.delete(folder);
+            } catch (IOException ioe) {
+                throw new UncheckedIOException(ioe);
+            }
+            task.run();
+        });
+        CommandResult result = new ExportCommand(file, Format.CSV, removingExporter).execute(model);
+
+        assertEquals(Optional.of(String.format(ExportCommand.MESSAGE_EXPORT_FAILED, file,
+                new NoSuchFileException(file.toString()))), result.getBackgroundFeedback().get());
+    }
+
+    @Test
+    public void execute_missingFolder_throwsCommandException() {
+        Path file = testFolder.resolve("missing").resolve("persons.csv");
+        assertCommandFailure(new ExportCommand(file, Format.CSV, exporter), model,
+                String.format(ExportCommand.MESSAGE_NOT_WRITABLE, file));
+    }
+
+    @Test
+    public void execute_folderAsFile_throwsCommandException() throws Exception {
+        Path file = Files.createDirectory(testFolder.resolve("persons.csv"));
+        assertCommandFailure(new ExportCommand(file, Format.CSV, exporter), model,
+                String.format(ExportCommand.MESSAGE_NOT_WRITABLE, file));
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand exportCommand = new ExportCommand(Paths.get("friends.csv"), Format.CSV, exporter);
+
+        // same object -> returns true
+        assertTrue(exportCommand.equals(exportCommand));
+
+        // same values -> returns true
+        assertTrue(exportCommand.equals(new ExportCommand(Paths.get("friends.csv"), Format.CSV, exporter)));
+
+        // different types -> returns false
+        assertFalse(exportCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(exportCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(exportCommand.equals(new ExportCommand(Paths.get("other.csv"), Format.CSV, exporter)));
+
+        // different format -> returns false
+        assertFalse(exportCommand.equals(new ExportCommand(Paths.get("friends.csv"), Format.JSON_LINES, exporter)));
+
+        // different exporter -> returns false
+        assertFalse(exportCommand.equals(new ExportCommand(Paths.get("friends.csv"), Format.CSV,
+                new PersonListExporter(Runnable::run))));
+    }
+}
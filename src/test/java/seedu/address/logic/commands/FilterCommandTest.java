@@ -0,0 +1,78 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FilterCommand}.
+ */
+public class FilterCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        FilterCommand filterFriendsCommand = new FilterCommand(Collections.singleton(new Tag("friends")));
+
+        // same object -> returns true
+        assertTrue(filterFriendsCommand.equals(filterFriendsCommand));
+
+        // same values -> returns true
+        assertTrue(filterFriendsCommand.equals(new FilterCommand(Collections.singleton(new Tag("friends")))));
+
+        // different types -> returns false
+        assertFalse(filterFriendsCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(filterFriendsCommand.equals(null));
+
+        // different tags -> returns false
+        assertFalse(filterFriendsCommand.equals(new FilterCommand(Collections.singleton(new Tag("owesMoney")))));
+    }
+
+    @Test
+    public void execute_singleTag_taggedPersonsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        Set<Tag> tags = Collections.singleton(new Tag("friends"));
+        expectedModel.updateFilteredPersonList(person -> person.getTags().containsAll(tags));
+        assertCommandSuccess(new FilterCommand(tags), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE, BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_multipleTags_personsWithAllTagsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        Set<Tag> tags = new HashSet<>(Arrays.asList(new Tag("friends"), new Tag("owesMoney")));
+        expectedModel.updateFilteredPersonList(person -> person.getTags().containsAll(tags));
+        assertCommandSuccess(new FilterCommand(tags), model, expectedMessage, expectedModel);
+        assertEquals(Collections.singletonList(BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_unusedTag_noPersonFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
+        expectedModel.updateFilteredPersonList(unused -> false);
+        assertCommandSuccess(new FilterCommand(Collections.singleton(new Tag("colleagues"))), model,
+                expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+}
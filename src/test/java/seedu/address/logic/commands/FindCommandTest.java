@@ -5,7 +5,10 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.ELLE;
 import static seedu.address.testutil.TypicalPersons.FIONA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
@@ -19,6 +22,12 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.PersonSearch;
+import seedu.address.model.person.query.AndQuery;
+import seedu.address.model.person.query.FieldQuery;
+import seedu.address.model.person.query.NotQuery;
+import seedu.address.model.person.query.OrQuery;
+import seedu.address.model.person.query.PersonQuery;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -52,6 +61,20 @@ public class FindCommandTest {
 
         // different person -> returns false
         assertFalse(findFirstCommand.equals(findSecondCommand));
+
+        // same keywords, different search -> returns false
+        FindCommand prefixSearchCommand = new FindCommand(
+                new PersonSearch(PersonSearch.Mode.PREFIX, Collections.singletonList("first")));
+        assertFalse(findFirstCommand.equals(prefixSearchCommand));
+        assertFalse(prefixSearchCommand.equals(new FindCommand(
+                new PersonSearch(PersonSearch.Mode.FUZZY, Collections.singletonList("first")))));
+        assertTrue(prefixSearchCommand.equals(new FindCommand(
+                new PersonSearch(PersonSearch.Mode.PREFIX, Collections.singletonList("first")))));
+
+        // same keyword, query instead of keywords -> returns false
+        FindCommand queryCommand = new FindCommand(new FieldQuery(FieldQuery.Field.NAME, "first"));
+        assertFalse(findFirstCommand.equals(queryCommand));
+        assertTrue(queryCommand.equals(new FindCommand(new FieldQuery(FieldQuery.Field.NAME, "first"))));
     }
 
     @Test
@@ -74,6 +97,40 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_prefixSearch_bestMatchesFirst() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        PersonSearch search = new PersonSearch(PersonSearch.Mode.PREFIX, Arrays.asList("friend", "Meier"));
+        FindCommand command = new FindCommand(search);
+        expectedModel.updateFilteredPersonListBySearch(search);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON, DANIEL, ALICE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_fuzzySearch_personsWithSimilarWordsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 4);
+        PersonSearch search = new PersonSearch(PersonSearch.Mode.FUZZY, Arrays.asList("Kurtz", "Meyer"));
+        FindCommand command = new FindCommand(search);
+        expectedModel.updateFilteredPersonListBySearch(search);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        // exact match first, then one-mistake matches in list order
+        assertEquals(Arrays.asList(ELLE, BENSON, CARL, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_query_matchingPersonsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 4);
+        PersonQuery query = new AndQuery(Arrays.asList(
+                new OrQuery(Arrays.asList(new FieldQuery(FieldQuery.Field.TAG, "friends"),
+                        new FieldQuery(FieldQuery.Field.PHONE, "9"))),
+                new NotQuery(new FieldQuery(FieldQuery.Field.ADDRESS, "street"))));
+        FindCommand command = new FindCommand(query);
+        expectedModel.updateFilteredPersonList(query);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE, BENSON, ELLE, FIONA), model.getFilteredPersonList());
+    }
+
     /**
      * Parses {@code userInput} into a {@code NameContainsKeywordsPredicate}.
      */
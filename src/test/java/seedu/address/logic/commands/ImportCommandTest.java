@@ -0,0 +1,243 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.parser.CsvPersonRecordReader;
+import seedu.address.logic.parser.PersonRecordReader;
+import seedu.address.logic.parser.PersonRecordReader.Format;
+import seedu.address.logic.parser.VCardPersonRecordReader;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ImportCommand}.
+ */
+public class ImportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void constructor_nullFormat_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ImportCommand(Paths.get("contacts.csv"), null));
+    }
+
+    @Test
+    public void execute_csvFile_allAdded() throws Exception {
+        showPersonAtIndex(model, INDEX_FIRST_PERSON);
+        Path file = writeFile("contacts.csv",
+                " Email ,NAME,notes,address,phone,tags",
+                "amy@example.com,Amy Bee,,\"Block 312, Amy Street 1\",11111111,friend",
+                "",
+                "bob@example.com,Bob Choo,\"says \"\"hi\"\",",
+                "often\",\"Block 123, Bobby Street 3\",22222222,husband;friend");
+        assertImportSuccess(new ImportCommand(file, Format.CSV), file, 2, 0, Arrays.asList(AMY, BOB));
+    }
+
+    @Test
+    public void execute_vCardFile_allAdded() throws Exception {
+        Path file = writeFile("contacts.vcf",
+                "BEGIN:VCARD",
+                "VERSION:3.0",
+                "FN:Amy Bee",
+                "N:Bee;Amy;;;",
+                "TEL;TYPE=CELL:1111-1111",
+                "TEL;TYPE=HOME:99999999",
+                "EMAIL:amy@example.com",
+                "ADR;TYPE=HOME:;;Block 312;Amy Str",
+                " eet 1;;;",
+                "CATEGORIES:friend",
+                "END:VCARD",
+                "BEGIN:VCARD",
+                "FN:Bob Choo",
+                "item1.TEL:(2222) 2222",
+                "EMAIL;TYPE=WORK:bob@example.com",
+                "ADR:;;Block 123\\, Bobby Street 3;;;;",
+                "CATEGORIES:husband,friend",
+                "END:VCARD");
+        assertImportSuccess(new ImportCommand(file, Format.VCARD), file, 2, 0, Arrays.asList(AMY, BOB));
+    }
+
+    @Test
+    public void execute_duplicatePersons_skipped() throws Exception {
+        Path file = writeFile("contacts.csv", "name,phone,email,address,tags",
+                "Amy Bee,11111111,amy@example.com,\"Block 312, Amy Street 1\",friend",
+                "Alice Pauline,94351253,alice@example.com,\"123, Jurong West Ave 6, #08-111\",friends",
+                "Amy Bee,22222222,amy@example.com,\"Block 312, Amy Street 1\",friend",
+                "Bob Choo,22222222,bob@example.com,\"Block 123, Bobby Street 3\",husband;friend");
+        assertImportSuccess(new ImportCommand(file, Format.CSV), file, 2, 2, Arrays.asList(AMY, BOB));
+    }
+
+    @Test
+    public void execute_largeCsvFile_allAddedInOrder() throws Exception {
+        List<String> lines = new ArrayList<>(Collections.singletonList("name,phone,email,address,tags"));
+        List<Person> expectedPersons = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            lines.add("Person " + i + "," + (10000000 + i) + ",person" + i + "@example.com,Block " + i + ",t" + i % 7);
+            expectedPersons.add(new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(10000000 + i))
+                    .withEmail("person" + i + "@example.com").withAddress("Block " + i).withTags("t" + i % 7).build());
+        }
+        Path file = writeFile("contacts.csv", lines.toArray(new String[0]));
+        assertImportSuccess(new ImportCommand(file, Format.CSV), file, 5000, 0, expectedPersons);
+    }
+
+    @Test
+    public void execute_onlyDuplicates_addressBookUnchanged() throws Exception {
+        showPersonAtIndex(model, INDEX_FIRST_PERSON);
+        long modificationCount = model.getAddressBookModificationCount();
+        Path file = writeFile("contacts.csv", "name,phone,email,address,tags",
+                "Alice Pauline,94351253,alice@example.com,\"123, Jurong West Ave 6, #08-111\",friends");
+
+        String feedback = new ImportCommand(file, Format.CSV).execute(model).getFeedbackToUser();
+        assertTrue(feedback.startsWith(String.format(ImportCommand.MESSAGE_SUCCESS, 0, file, 1)), feedback);
+        assertEquals(modificationCount, model.getAddressBookModificationCount());
+        assertEquals(1, model.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void execute_invalidRecordInLaterChunk_recordNumberReported() throws Exception {
+        List<String> lines = new ArrayList<>(Collections.singletonList("name,phone,email,address"));
+        for (int i = 0; i < ImportCommand.VALIDATION_CHUNK_SIZE + 1; i++) {
+            lines.add("Person " + i + "," + (10000000 + i) + ",person" + i + "@example.com,Block " + i);
+        }
+        lines.add("Bob Choo,2222a,bob@example.com,Block 123");
+        Path file = writeFile("contacts.csv", lines.toArray(new String[0]));
+        assertCommandFailure(new ImportCommand(file, Format.CSV), model,
+                String.format(ImportCommand.MESSAGE_INVALID_RECORD, ImportCommand.VALIDATION_CHUNK_SIZE + 2,
+                        Phone.MESSAGE_CONSTRAINTS));
+    }
+
+    @Test
+    public void execute_invalidRecordBeforeMalformedRecord_invalidRecordReported() throws Exception {
+        Path file = writeFile("contacts.csv", "name,phone,email,address",
+                "Bob Choo,2222a,bob@example.com,Block 123",
+                "Amy Bee,11111111,amy@example.com,\"Block 312");
+        assertCommandFailure(new ImportCommand(file, Format.CSV), model,
+                String.format(ImportCommand.MESSAGE_INVALID_RECORD, 1, Phone.MESSAGE_CONSTRAINTS));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path file = testFolder.resolve("missing.csv");
+        assertCommandFailure(new ImportCommand(file, Format.CSV), model,
+                String.format(ImportCommand.MESSAGE_READ_FAILED, file, new NoSuchFileException(file.toString())));
+    }
+
+    @Test
+    public void execute_csvFileWithoutRequiredColumn_throwsCommandException() throws Exception {
+        Path file = writeFile("contacts.csv", "name,email,address,tags");
+        assertCommandFailure(new ImportCommand(file, Format.CSV), model,
+                String.format(ImportCommand.MESSAGE_INVALID_RECORD, 1,
+                        String.format(CsvPersonRecordReader.MESSAGE_MISSING_COLUMN, "phone")));
+    }
+
+    @Test
+    public void execute_csvFileWithUnterminatedQuote_throwsCommandException() throws Exception {
+        Path file = writeFile("contacts.csv", "name,phone,email,address",
+                "Amy Bee,11111111,amy@example.com,Block 312",
+                "Bob Choo,22222222,bob@example.com,\"Block 123");
+        assertCommandFailure(new ImportCommand(file, Format.CSV), model,
+                String.format(ImportCommand.MESSAGE_INVALID_RECORD, 2,
+                        CsvPersonRecordReader.MESSAGE_UNTERMINATED_QUOTE));
+    }
+
+    @Test
+    public void execute_csvFileWithInvalidRecord_noneAdded() throws Exception {
+        Path file = writeFile("contacts.csv", "name,phone,email,address",
+                "Amy Bee,11111111,amy@example.com,Block 312",
+                "Bob Choo,2222a,bob@example.com,Block 123",
+                "Carl Kurz,33333333,carl@example.com");
+        assertCommandFailure(new ImportCommand(file, Format.CSV), model,
+                String.format(ImportCommand.MESSAGE_INVALID_RECORD, 2, Phone.MESSAGE_CONSTRAINTS));
+    }
+
+    @Test
+    public void execute_csvFileWithMissingField_throwsCommandException() throws Exception {
+        Path file = writeFile("contacts.csv", "name,phone,email,address",
+                "Carl Kurz,33333333,carl@example.com");
+        assertCommandFailure(new ImportCommand(file, Format.CSV), model,
+                String.format(ImportCommand.MESSAGE_INVALID_RECORD, 1, PersonRecordReader.MESSAGE_MISSING_FIELDS));
+    }
+
+    @Test
+    public void execute_vCardFileWithUnterminatedCard_throwsCommandException() throws Exception {
+        Path file = writeFile("contacts.vcf", "BEGIN:VCARD", "FN:Amy Bee");
+        assertCommandFailure(new ImportCommand(file, Format.VCARD), model,
+                String.format(ImportCommand.MESSAGE_INVALID_RECORD, 1,
+                        VCardPersonRecordReader.MESSAGE_UNTERMINATED_CARD));
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importCommand = new ImportCommand(Paths.get("contacts.csv"), Format.CSV);
+
+        // same object -> returns true
+        assertTrue(importCommand.equals(importCommand));
+
+        // same values -> returns true
+        assertTrue(importCommand.equals(new ImportCommand(Paths.get("contacts.csv"), Format.CSV)));
+
+        // different types -> returns false
+        assertFalse(importCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(importCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(importCommand.equals(new ImportCommand(Paths.get("other.csv"), Format.CSV)));
+
+        // different format -> returns false
+        assertFalse(importCommand.equals(new ImportCommand(Paths.get("contacts.csv"), Format.VCARD)));
+    }
+
+    /**
+     * Executes {@code importCommand} and confirms that it reports {@code expectedImported} persons imported,
+     * {@code expectedSkipped} skipped and the rate at which records were read, and that {@code expectedPersons}
+     * were added to the address book.
+     */
+    private void assertImportSuccess(ImportCommand importCommand, Path file, int expectedImported,
+            int expectedSkipped, List<Person> expectedPersons) throws Exception {
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.addPersons(expectedPersons);
+
+        String feedback = importCommand.execute(model).getFeedbackToUser();
+        String expectedPrefix = String.format(ImportCommand.MESSAGE_SUCCESS, expectedImported, file, expectedSkipped)
+                + "\nRead " + (expectedImported + expectedSkipped) + " records in ";
+        assertTrue(feedback.startsWith(expectedPrefix), feedback);
+        assertTrue(feedback.endsWith(" records/second)"), feedback);
+        assertEquals(expectedModel, model);
+    }
+
+    private Path writeFile(String fileName, String... lines) throws Exception {
+        Path file = testFolder.resolve(fileName);
+        Files.write(file, Arrays.asList(lines));
+        return file;
+    }
+}
@@ -0,0 +1,187 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonUtil;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code RunCommand}.
+ */
+public class RunCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private AddressBookParser addressBookParser = new AddressBookParser();
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_validCommands_allApplied() throws Exception {
+        Path file = writeFile("# add Amy, then remove the first person", PersonUtil.getAddCommand(AMY), "",
+                "  delete 1  ", "list");
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.addPerson(AMY);
+        expectedModel.deletePerson(ALICE);
+        assertRunSuccess(new RunCommand(file, addressBookParser), 3, file, expectedModel);
+    }
+
+    @Test
+    public void execute_manyCommands_displayedListNotChangedPerCommand() throws Exception {
+        Path file = writeFile("delete 1", "delete 1", "delete 1", PersonUtil.getAddCommand(AMY));
+        int[] changes = new int[1];
+        model.getFilteredPersonList().addListener((ListChangeListener<Person>) change -> changes[0]++);
+
+        new RunCommand(file, addressBookParser).execute(model);
+        // once for the new persons, and once for showing all persons
+        assertEquals(2, changes[0]);
+    }
+
+    @Test
+    public void execute_filteredList_commandsStartFromFullList() throws Exception {
+        showPersonAtIndex(model, INDEX_SECOND_PERSON);
+        Path file = writeFile("delete 1");
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.deletePerson(ALICE);
+        assertRunSuccess(new RunCommand(file, addressBookParser), 1, file, expectedModel);
+    }
+
+    @Test
+    public void execute_aliasInFile_parsedWithGivenParser() throws Exception {
+        addressBookParser.registerAlias("rm", DeleteCommand.COMMAND_WORD);
+        Path file = writeFile("rm 1");
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.deletePerson(ALICE);
+        assertRunSuccess(new RunCommand(file, addressBookParser), 1, file, expectedModel);
+    }
+
+    @Test
+    public void execute_failingCommand_noneApplied() throws Exception {
+        showPersonAtIndex(model, INDEX_SECOND_PERSON);
+        Path file = writeFile("delete 1", PersonUtil.getAddCommand(AMY), "", PersonUtil.getAddCommand(AMY));
+
+        String expectedMessage = String.format(RunCommand.MESSAGE_COMMAND_FAILED, 4,
+                AddCommand.MESSAGE_DUPLICATE_PERSON);
+        assertCommandFailure(new RunCommand(file, addressBookParser), model, expectedMessage);
+        assertEquals(Collections.singletonList(BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_invalidCommand_noneApplied() throws Exception {
+        Path file = writeFile("delete 1", "remove 1");
+        assertCommandFailure(new RunCommand(file, addressBookParser), model,
+                String.format(RunCommand.MESSAGE_COMMAND_FAILED, 2, MESSAGE_UNKNOWN_COMMAND));
+    }
+
+    @Test
+    public void execute_runCommandInFile_noneApplied() throws Exception {
+        Path file = writeFile("delete 1", "run " + testFolder.resolve("other.txt"));
+        assertCommandFailure(new RunCommand(file, addressBookParser), model,
+                String.format(RunCommand.MESSAGE_COMMAND_FAILED, 2, RunCommand.MESSAGE_NESTED_RUN));
+    }
+
+    @Test
+    public void execute_aliasOfRunInFile_noneApplied() throws Exception {
+        addressBookParser.registerAlias("source", RunCommand.COMMAND_WORD);
+        Path file = writeFile("source " + testFolder.resolve("commands.txt"));
+        assertCommandFailure(new RunCommand(file, addressBookParser), model,
+                String.format(RunCommand.MESSAGE_COMMAND_FAILED, 1, RunCommand.MESSAGE_NESTED_RUN));
+    }
+
+    @Test
+    public void execute_exportCommandInFile_noneApplied() throws Exception {
+        Path file = writeFile("delete 1", "export " + testFolder.resolve("persons.csv"));
+        assertCommandFailure(new RunCommand(file, addressBookParser), model,
+                String.format(RunCommand.MESSAGE_COMMAND_FAILED, 2, RunCommand.MESSAGE_EXPORT_IN_FILE));
+        assertFalse(Files.exists(testFolder.resolve("persons.csv")));
+    }
+
+    @Test
+    public void execute_uncheckedExceptionMidFile_noneApplied() throws Exception {
+        IllegalStateException failure = new IllegalStateException("registered command failed");
+        addressBookParser.registerCommand("fail", arguments -> {
+            throw failure;
+        });
+        showPersonAtIndex(model, INDEX_SECOND_PERSON);
+        Path file = writeFile("delete 1", PersonUtil.getAddCommand(AMY), "fail", "delete 1");
+
+        assertCommandFailure(new RunCommand(file, addressBookParser), model,
+                String.format(RunCommand.MESSAGE_COMMAND_FAILED, 3, failure));
+        assertEquals(Collections.singletonList(BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path file = testFolder.resolve("missing.txt");
+        assertCommandFailure(new RunCommand(file, addressBookParser), model,
+                String.format(RunCommand.MESSAGE_READ_FAILED, file, new NoSuchFileException(file.toString())));
+    }
+
+    @Test
+    public void equals() {
+        Path file = Paths.get("commands.txt");
+        RunCommand runCommand = new RunCommand(file, addressBookParser);
+
+        // same object -> returns true
+        assertTrue(runCommand.equals(runCommand));
+
+        // same values -> returns true
+        assertTrue(runCommand.equals(new RunCommand(Paths.get("commands.txt"), addressBookParser)));
+
+        // null -> returns false
+        assertFalse(runCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(runCommand.equals(new RunCommand(Paths.get("other.txt"), addressBookParser)));
+
+        // different parser -> returns false
+        assertFalse(runCommand.equals(new RunCommand(file, new AddressBookParser())));
+    }
+
+    /**
+     * Executes {@code runCommand} and confirms that it reports {@code expectedCount} commands and their rate, and
+     * that {@code model} ends up equal to {@code expectedModel}.
+     */
+    private void assertRunSuccess(RunCommand runCommand, int expectedCount, Path file, Model expectedModel)
+            throws Exception {
+        CommandResult result = runCommand.execute(model);
+        String expectedPrefix = String.format(RunCommand.MESSAGE_SUCCESS, expectedCount, file) + " in ";
+        assertTrue(result.getFeedbackToUser().startsWith(expectedPrefix), result.getFeedbackToUser());
+        assertTrue(result.getFeedbackToUser().endsWith(" commands/second)"), result.getFeedbackToUser());
+        assertEquals(expectedModel, model);
+    }
+
+    private Path writeFile(String... lines) throws Exception {
+        Path file = testFolder.resolve("commands.txt");
+        Files.write(file, Arrays.asList(lines));
+        return file;
+    }
+}
@@ -0,0 +1,31 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code TagsCommand}.
+ */
+public class TagsCommandTest {
+
+    @Test
+    public void execute_taggedPersons_tagCountsListed() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        String expectedMessage = String.format(TagsCommand.MESSAGE_SUCCESS, 2, "friends: 3\nowesMoney: 1");
+        assertCommandSuccess(new TagsCommand(), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noTags_noTagsMessage() {
+        Model model = new ModelManager(new AddressBook(), new UserPrefs());
+        assertCommandSuccess(new TagsCommand(), model, TagsCommand.MESSAGE_NO_TAGS, new ModelManager());
+    }
+}
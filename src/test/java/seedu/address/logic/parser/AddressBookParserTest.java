@@ -7,7 +7,9 @@ import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -19,19 +21,28 @@ import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.FilterCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.TagsCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.storage.PersonListExporter;
+import seedu.address.storage.PersonListExporter.Format;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
 import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.PersonUtil;
 
 public class AddressBookParserTest {
 
-    private final AddressBookParser parser = new AddressBookParser();
+    private final PersonListExporter exporter = new PersonListExporter(Runnable::run);
+    private final AddressBookParser parser = new AddressBookParser(exporter);
 
     @Test
     public void parseCommand_add() throws Exception {
@@ -68,6 +79,12 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ExitCommand.COMMAND_WORD + " 3") instanceof ExitCommand);
     }
 
+    @Test
+    public void parseCommand_filter() throws Exception {
+        FilterCommand command = (FilterCommand) parser.parseCommand(FilterCommand.COMMAND_WORD + " t/friends");
+        assertEquals(new FilterCommand(Collections.singleton(new Tag("friends"))), command);
+    }
+
     @Test
     public void parseCommand_find() throws Exception {
         List<String> keywords = Arrays.asList("foo", "bar", "baz");
@@ -88,6 +105,69 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_run() throws Exception {
+        RunCommand command = (RunCommand) parser.parseCommand(RunCommand.COMMAND_WORD + " commands.txt");
+        assertEquals(new RunCommand(Paths.get("commands.txt"), parser), command);
+    }
+
+    @Test
+    public void parseCommand_export() throws Exception {
+        ExportCommand command = (ExportCommand) parser.parseCommand(ExportCommand.COMMAND_WORD + " friends.jsonl");
+        assertEquals(new ExportCommand(Paths.get("friends.jsonl"), Format.JSON_LINES, exporter), command);
+    }
+
+    @Test
+    public void parseCommand_import() throws Exception {
+        ImportCommand command = (ImportCommand) parser.parseCommand(ImportCommand.COMMAND_WORD + " contacts.csv");
+        assertEquals(new ImportCommand(Paths.get("contacts.csv"), PersonRecordReader.Format.CSV), command);
+    }
+
+    @Test
+    public void parseCommand_tags() throws Exception {
+        assertTrue(parser.parseCommand(TagsCommand.COMMAND_WORD) instanceof TagsCommand);
+        assertTrue(parser.parseCommand(TagsCommand.COMMAND_WORD + " 3") instanceof TagsCommand);
+    }
+
+    @Test
+    public void parseCommand_commandWordFollowedByOtherWhitespace() throws Exception {
+        assertEquals(new DeleteCommand(INDEX_FIRST_PERSON),
+                parser.parseCommand(" " + DeleteCommand.COMMAND_WORD + "\t" + INDEX_FIRST_PERSON.getOneBased()));
+    }
+
+    @Test
+    public void registerCommand_newCommandWord_parsedWithRegisteredParser() throws Exception {
+        parser.registerCommand("purge", arguments -> new ClearCommand());
+        assertTrue(parser.parseCommand("purge everything") instanceof ClearCommand);
+    }
+
+    @Test
+    public void registerCommand_invalidCommandWord_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+                String.format(AddressBookParser.MESSAGE_DUPLICATE_COMMAND_WORD, ListCommand.COMMAND_WORD), ()
+                -> parser.registerCommand(ListCommand.COMMAND_WORD, arguments -> new ClearCommand()));
+        assertThrows(IllegalArgumentException.class,
+                String.format(AddressBookParser.MESSAGE_INVALID_COMMAND_WORD, "two words"), ()
+                -> parser.registerCommand("two words", arguments -> new ClearCommand()));
+        assertThrows(IllegalArgumentException.class, () -> parser.registerCommand("", arguments -> new ClearCommand()));
+    }
+
+    @Test
+    public void registerAlias_registeredCommandWord_aliasParsedAsCommand() throws Exception {
+        parser.registerAlias("rm", DeleteCommand.COMMAND_WORD);
+        assertEquals(new DeleteCommand(INDEX_FIRST_PERSON), parser.parseCommand("rm 1"));
+        assertEquals(new DeleteCommand(INDEX_FIRST_PERSON), parser.parseCommand(DeleteCommand.COMMAND_WORD + " 1"));
+    }
+
+    @Test
+    public void registerAlias_unregisteredCommandWord_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+                String.format(AddressBookParser.MESSAGE_UNREGISTERED_COMMAND_WORD, "remove"), ()
+                -> parser.registerAlias("rm", "remove"));
+        assertThrows(IllegalArgumentException.class, () -> parser.registerAlias(ListCommand.COMMAND_WORD,
+                DeleteCommand.COMMAND_WORD));
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
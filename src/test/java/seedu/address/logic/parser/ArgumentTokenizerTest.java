@@ -5,6 +5,11 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
 import org.junit.jupiter.api.Test;
 
 public class ArgumentTokenizerTest {
@@ -136,6 +141,67 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixAfterOtherWhitespace_notRecognized() {
+        String argsString = "preamble\tp/tab\np/newline p/space";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash);
+        assertPreamblePresent(argMultimap, "preamble\tp/tab\np/newline");
+        assertArgumentPresent(argMultimap, pSlash, "space");
+    }
+
+    @Test
+    public void tokenize_randomArgsStrings_sameAsScanningOncePerPrefix() {
+        Prefix[] prefixes = {pSlash, dashT, hatQ, new Prefix("n/"), new Prefix("t/")};
+        char[] alphabet = {' ', ' ', ' ', 'p', '/', '-', 't', 'n', '^', 'Q', 'x', '\t'};
+        Random random = new Random(20201017);
+        for (int i = 0; i < 20000; i++) {
+            char[] chars = new char[random.nextInt(40)];
+            for (int j = 0; j < chars.length; j++) {
+                chars[j] = alphabet[random.nextInt(alphabet.length)];
+            }
+            String argsString = new String(chars);
+            Prefix[] givenPrefixes = Arrays.copyOf(prefixes, random.nextInt(prefixes.length + 1));
+
+            ArgumentMultimap expected = tokenizeOncePerPrefix(argsString, givenPrefixes);
+            ArgumentMultimap actual = ArgumentTokenizer.tokenize(argsString, givenPrefixes);
+            assertEquals(expected.getPreamble(), actual.getPreamble(), argsString);
+            for (Prefix prefix : prefixes) {
+                assertEquals(expected.getAllValues(prefix), actual.getAllValues(prefix), argsString);
+            }
+        }
+    }
+
+    /**
+     * Tokenizes {@code argsString} by searching it for each prefix in turn and sorting the positions found,
+     * which is simpler but slower than {@link ArgumentTokenizer#tokenize(String, Prefix...)}.
+     */
+    private static ArgumentMultimap tokenizeOncePerPrefix(String argsString, Prefix... prefixes) {
+        List<Integer> positions = new ArrayList<>();
+        List<Prefix> prefixesAtPositions = new ArrayList<>();
+        for (Prefix prefix : prefixes) {
+            for (int position = argsString.indexOf(" " + prefix); position != -1;
+                    position = argsString.indexOf(" " + prefix, position + 1)) {
+                int insertAt = 0;
+                while (insertAt < positions.size() && positions.get(insertAt) <= position + 1) {
+                    insertAt++;
+                }
+                positions.add(insertAt, position + 1);
+                prefixesAtPositions.add(insertAt, prefix);
+            }
+        }
+
+        ArgumentMultimap argMultimap = new ArgumentMultimap();
+        Prefix currentPrefix = new Prefix("");
+        int valueStart = 0;
+        for (int i = 0; i < positions.size(); i++) {
+            argMultimap.put(currentPrefix, argsString.substring(valueStart, positions.get(i)).trim());
+            currentPrefix = prefixesAtPositions.get(i);
+            valueStart = positions.get(i) + currentPrefix.getPrefix().length();
+        }
+        argMultimap.put(currentPrefix, argsString.substring(valueStart).trim());
+        return argMultimap;
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -0,0 +1,38 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.storage.PersonListExporter;
+import seedu.address.storage.PersonListExporter.Format;
+
+public class ExportCommandParserTest {
+
+    private PersonListExporter exporter = new PersonListExporter(Runnable::run);
+    private ExportCommandParser parser = new ExportCommandParser(exporter);
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "   ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_unsupportedExtension_throwsParseException() {
+        assertParseFailure(parser, "friends.json", ExportCommandParser.MESSAGE_UNSUPPORTED_FORMAT);
+        assertParseFailure(parser, "data", ExportCommandParser.MESSAGE_UNSUPPORTED_FORMAT);
+    }
+
+    @Test
+    public void parse_validArgs_returnsExportCommand() {
+        assertParseSuccess(parser, " data/friends.csv ",
+                new ExportCommand(Paths.get("data", "friends.csv"), Format.CSV, exporter));
+        assertParseSuccess(parser, "friends.JSONL",
+                new ExportCommand(Paths.get("friends.JSONL"), Format.JSON_LINES, exporter));
+    }
+}
@@ -10,6 +10,9 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.PersonSearch;
+import seedu.address.model.person.query.AndQuery;
+import seedu.address.model.person.query.FieldQuery;
 
 public class FindCommandParserTest {
 
@@ -29,6 +32,30 @@ public class FindCommandParserTest {
 
         // multiple whitespaces between keywords
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
+
+        // unknown flag is a keyword
+        assertParseSuccess(parser, "-x Bob",
+                new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList("-x", "Bob"))));
+    }
+
+    @Test
+    public void parse_searchModeFlag_returnsFindCommand() {
+        assertParseSuccess(parser, " -p Ali  Bo ",
+                new FindCommand(new PersonSearch(PersonSearch.Mode.PREFIX, Arrays.asList("Ali", "Bo"))));
+        assertParseSuccess(parser, "-f Alcie",
+                new FindCommand(new PersonSearch(PersonSearch.Mode.FUZZY, Arrays.asList("Alcie"))));
+    }
+
+    @Test
+    public void parse_searchModeFlagWithoutKeywords_throwsParseException() {
+        assertParseFailure(parser, " -f ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_fieldPrefix_returnsQueryFindCommand() {
+        assertParseSuccess(parser, " t/friends  p/9 ", new FindCommand(new AndQuery(Arrays.asList(
+                new FieldQuery(FieldQuery.Field.TAG, "friends"), new FieldQuery(FieldQuery.Field.PHONE, "9")))));
+        assertParseFailure(parser, "alice n/bob", String.format(PersonQueryParser.MESSAGE_UNKNOWN_TERM, "alice"));
     }
 
 }
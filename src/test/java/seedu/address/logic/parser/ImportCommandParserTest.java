@@ -0,0 +1,39 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.logic.parser.PersonRecordReader.Format;
+
+public class ImportCommandParserTest {
+
+    private ImportCommandParser parser = new ImportCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "   ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_unsupportedExtension_throwsParseException() {
+        assertParseFailure(parser, "contacts.txt", ImportCommandParser.MESSAGE_UNSUPPORTED_FORMAT);
+    }
+
+    @Test
+    public void parse_csvFile_returnsImportCommand() {
+        // the file is only read when the command is executed
+        assertParseSuccess(parser, " missing.csv ", new ImportCommand(Paths.get("missing.csv"), Format.CSV));
+    }
+
+    @Test
+    public void parse_vCardFile_returnsImportCommand() {
+        assertParseSuccess(parser, "contacts.VCF", new ImportCommand(Paths.get("contacts.VCF"), Format.VCARD));
+        assertParseSuccess(parser, "contacts.vcard", new ImportCommand(Paths.get("contacts.vcard"), Format.VCARD));
+    }
+}
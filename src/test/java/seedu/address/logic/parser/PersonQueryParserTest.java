@@ -0,0 +1,89 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.query.AndQuery;
+import seedu.address.model.person.query.FieldQuery;
+import seedu.address.model.person.query.NotQuery;
+import seedu.address.model.person.query.OrQuery;
+import seedu.address.model.person.query.PersonQuery;
+import seedu.address.model.tag.Tag;
+
+public class PersonQueryParserTest {
+
+    private static final FieldQuery NAME_QUERY = new FieldQuery(FieldQuery.Field.NAME, "alex");
+    private static final FieldQuery PHONE_QUERY = new FieldQuery(FieldQuery.Field.PHONE, "9");
+    private static final FieldQuery EMAIL_QUERY = new FieldQuery(FieldQuery.Field.EMAIL, "example.com");
+    private static final FieldQuery ADDRESS_QUERY = new FieldQuery(FieldQuery.Field.ADDRESS, "clementi");
+    private static final FieldQuery TAG_QUERY = new FieldQuery(FieldQuery.Field.TAG, "friends");
+
+    private final PersonQueryParser parser = new PersonQueryParser();
+
+    @Test
+    public void isQuery() {
+        assertTrue(PersonQueryParser.isQuery("n/alex"));
+        assertTrue(PersonQueryParser.isQuery("alex (t/friends)"));
+        assertFalse(PersonQueryParser.isQuery(""));
+        assertFalse(PersonQueryParser.isQuery("alex an/bob"));
+    }
+
+    @Test
+    public void parse_singleCondition_returnsFieldQuery() throws Exception {
+        assertEquals(NAME_QUERY, parser.parse("n/alex"));
+        assertEquals(PHONE_QUERY, parser.parse(" p/9 "));
+        assertEquals(EMAIL_QUERY, parser.parse("e/example.com"));
+        assertEquals(ADDRESS_QUERY, parser.parse("a/clementi"));
+        assertEquals(TAG_QUERY, parser.parse("((t/friends))"));
+    }
+
+    @Test
+    public void parse_adjacentConditions_returnsAndQuery() throws Exception {
+        PersonQuery expected = new AndQuery(Arrays.asList(TAG_QUERY, PHONE_QUERY, NAME_QUERY));
+        assertEquals(expected, parser.parse("t/friends p/9 n/alex"));
+        assertEquals(expected, parser.parse("t/friends and p/9 AND n/alex"));
+    }
+
+    @Test
+    public void parse_operators_precedenceRespected() throws Exception {
+        // NOT binds tighter than AND, which binds tighter than OR
+        assertEquals(new OrQuery(Arrays.asList(new AndQuery(Arrays.asList(TAG_QUERY, new NotQuery(NAME_QUERY))),
+                PHONE_QUERY)), parser.parse("t/friends NOT n/alex or p/9"));
+
+        // parentheses group conditions
+        assertEquals(new AndQuery(Arrays.asList(TAG_QUERY, new OrQuery(Arrays.asList(ADDRESS_QUERY, PHONE_QUERY)),
+                new NotQuery(NAME_QUERY))), parser.parse("t/friends (a/clementi OR p/9) NOT n/alex"));
+        assertEquals(new NotQuery(new NotQuery(new AndQuery(Arrays.asList(TAG_QUERY, EMAIL_QUERY)))),
+                parser.parse("not not(t/friends e/example.com)"));
+    }
+
+    @Test
+    public void parse_invalidQuery_throwsParseException() {
+        assertThrows(ParseException.class, String.format(PersonQueryParser.MESSAGE_UNKNOWN_TERM, "alex"), ()
+            -> parser.parse("t/friends alex"));
+        assertThrows(ParseException.class, String.format(PersonQueryParser.MESSAGE_EMPTY_VALUE, "n/"), ()
+            -> parser.parse("t/friends OR n/"));
+        assertThrows(ParseException.class, PersonQueryParser.MESSAGE_MISSING_TERM, ()
+            -> parser.parse("t/friends AND"));
+        assertThrows(ParseException.class, PersonQueryParser.MESSAGE_MISSING_TERM, ()
+            -> parser.parse("OR t/friends"));
+        assertThrows(ParseException.class, PersonQueryParser.MESSAGE_MISSING_TERM, ()
+            -> parser.parse("t/friends AND OR p/9"));
+        assertThrows(ParseException.class, PersonQueryParser.MESSAGE_UNBALANCED_PARENTHESES, ()
+            -> parser.parse("(t/friends OR p/9"));
+        assertThrows(ParseException.class, PersonQueryParser.MESSAGE_UNBALANCED_PARENTHESES, ()
+            -> parser.parse("t/friends) OR p/9"));
+        assertThrows(ParseException.class, PersonQueryParser.MESSAGE_UNBALANCED_PARENTHESES, ()
+            -> parser.parse("t/friends ()"));
+        assertThrows(ParseException.class, PersonQueryParser.MESSAGE_INVALID_PHONE_PREFIX, ()
+            -> parser.parse("p/9a"));
+        assertThrows(ParseException.class, Tag.MESSAGE_CONSTRAINTS, () -> parser.parse("t/best-friends"));
+    }
+}
@@ -0,0 +1,41 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+public class RunCommandParserTest {
+
+    private AddressBookParser addressBookParser = new AddressBookParser();
+    private RunCommandParser parser = new RunCommandParser(addressBookParser);
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "   ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidPath_throwsParseException() {
+        assertThrows(ParseException.class, () -> parser.parse(" commands\0.txt"));
+    }
+
+    @Test
+    public void parse_missingFile_returnsRunCommand() {
+        // the file is only read when the command is executed
+        assertParseSuccess(parser, " missing.txt ", new RunCommand(Paths.get("missing.txt"), addressBookParser));
+    }
+
+    @Test
+    public void parse_validArgs_returnsRunCommandWithGivenParser() {
+        assertParseSuccess(parser, " data/commands.txt ",
+                new RunCommand(Paths.get("data/commands.txt"), addressBookParser));
+    }
+}
@@ -2,11 +2,14 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
@@ -78,6 +81,60 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void getPersonsWithNameKeywords_personListModified_reflectsChanges() {
+        addressBook.addPerson(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alicia Pauline").build();
+        addressBook.setPerson(ALICE, editedAlice);
+        assertTrue(addressBook.getPersonsWithNameKeywords(Collections.singletonList("alice")).isEmpty());
+        assertEquals(Collections.singleton(editedAlice),
+                addressBook.getPersonsWithNameKeywords(Arrays.asList("alicia", "bob")));
+
+        addressBook.removePerson(editedAlice);
+        assertTrue(addressBook.getPersonsWithNameKeywords(Collections.singletonList("pauline")).isEmpty());
+
+        addressBook.resetData(getTypicalAddressBook());
+        assertEquals(Collections.singleton(ALICE),
+                addressBook.getPersonsWithNameKeywords(Collections.singletonList("pauline")));
+    }
+
+    @Test
+    public void getPersonsWithNameKeywords_modifiedBeforeFirstLookup_indexesBuiltFromPersonList() {
+        AddressBook copy = new AddressBook(getTypicalAddressBook());
+        copy.removePerson(ALICE);
+        copy.addPerson(HOON);
+        assertTrue(copy.getPersonsWithNameKeywords(Collections.singletonList("alice")).isEmpty());
+        assertEquals(Collections.singleton(HOON), copy.getPersonsWithNameKeywords(Collections.singletonList("hoon")));
+        assertEquals(1, copy.countPersonsWithNameKeyword("HOON"));
+    }
+
+    @Test
+    public void getModificationCount_personListModified_countChanges() {
+        long initialCount = addressBook.getModificationCount();
+        addressBook.addPerson(ALICE);
+        long countAfterAdd = addressBook.getModificationCount();
+        addressBook.setPerson(ALICE, BOB);
+        long countAfterEdit = addressBook.getModificationCount();
+        addressBook.removePerson(BOB);
+        long countAfterRemove = addressBook.getModificationCount();
+        addressBook.resetData(getTypicalAddressBook());
+        long countAfterReset = addressBook.getModificationCount();
+
+        assertNotEquals(initialCount, countAfterAdd);
+        assertNotEquals(countAfterAdd, countAfterEdit);
+        assertNotEquals(countAfterEdit, countAfterRemove);
+        assertNotEquals(countAfterRemove, countAfterReset);
+    }
+
+    @Test
+    public void getModificationCount_personListNotModified_countUnchanged() {
+        long initialCount = addressBook.getModificationCount();
+        addressBook.hasPerson(ALICE);
+        addressBook.getPersonList();
+        addressBook.addPersons(Collections.emptyList());
+        assertEquals(initialCount, addressBook.getModificationCount());
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
@@ -0,0 +1,67 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class NameStartsWithKeywordsPredicateTest {
+
+    @Test
+    public void test_someKeywordStartsNameWord_returnsTrue() {
+        // One keyword
+        NameStartsWithKeywordsPredicate predicate = new NameStartsWithKeywordsPredicate(
+                Collections.singletonList("Ali"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // Whole word
+        predicate = new NameStartsWithKeywordsPredicate(Collections.singletonList("bob"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // Only one keyword matches, in any case
+        predicate = new NameStartsWithKeywordsPredicate(Arrays.asList("cAR", "bO"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+    }
+
+    @Test
+    public void test_noKeywordStartsNameWord_returnsFalse() {
+        // Keyword inside a word
+        NameStartsWithKeywordsPredicate predicate = new NameStartsWithKeywordsPredicate(
+                Collections.singletonList("lice"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // Keywords longer than the words
+        predicate = new NameStartsWithKeywordsPredicate(Arrays.asList("Bobby", "Alicia"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+    }
+
+    @Test
+    public void isNarrowedBy() {
+        NameStartsWithKeywordsPredicate predicate = new NameStartsWithKeywordsPredicate(Arrays.asList("al", "Bo"));
+
+        // more of a keyword typed, or a keyword deleted -> returns true
+        assertTrue(predicate.isNarrowedBy(new NameStartsWithKeywordsPredicate(Arrays.asList("al", "bob"))));
+        assertTrue(predicate.isNarrowedBy(new NameStartsWithKeywordsPredicate(Arrays.asList("ALI", "bo"))));
+        assertTrue(predicate.isNarrowedBy(new NameStartsWithKeywordsPredicate(Collections.singletonList("alice"))));
+        assertTrue(predicate.isNarrowedBy(predicate));
+
+        // keyword added or shortened -> returns false
+        assertFalse(predicate.isNarrowedBy(new NameStartsWithKeywordsPredicate(Arrays.asList("al", "bo", "c"))));
+        assertFalse(predicate.isNarrowedBy(new NameStartsWithKeywordsPredicate(Arrays.asList("a", "bo"))));
+    }
+
+    @Test
+    public void equals() {
+        NameStartsWithKeywordsPredicate predicate = new NameStartsWithKeywordsPredicate(Arrays.asList("al", "bo"));
+        assertTrue(predicate.equals(predicate));
+        assertTrue(predicate.equals(new NameStartsWithKeywordsPredicate(Arrays.asList("al", "bo"))));
+        assertFalse(predicate.equals(new NameStartsWithKeywordsPredicate(Arrays.asList("bo", "al"))));
+        assertFalse(predicate.equals(null));
+        assertFalse(predicate.equals(new NameContainsKeywordsPredicate(Arrays.asList("al", "bo"))));
+    }
+}
@@ -0,0 +1,92 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class NameTokenIndexTest {
+
+    private final NameTokenIndex nameTokenIndex = new NameTokenIndex();
+
+    @Test
+    public void add_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> nameTokenIndex.add(null));
+    }
+
+    @Test
+    public void getPersonsWithAnyWord_nullKeywords_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> nameTokenIndex.getPersonsWithAnyWord(null));
+    }
+
+    @Test
+    public void getPersonsWithAnyWord_emptyIndex_returnsEmptySet() {
+        assertTrue(nameTokenIndex.getPersonsWithAnyWord(Collections.singletonList("Alice")).isEmpty());
+    }
+
+    @Test
+    public void getPersonsWithAnyWord_mixedCaseKeywords_returnsUnionOfMatches() {
+        nameTokenIndex.setPersons(getTypicalPersons());
+        assertEquals(new HashSet<>(Arrays.asList(ALICE, BENSON, DANIEL)),
+                nameTokenIndex.getPersonsWithAnyWord(Arrays.asList("aLIce", "MEIER", "Meie")));
+    }
+
+    @Test
+    public void getPersonsWithAnyWord_sameAsPredicate() {
+        List<Person> persons = getTypicalPersons();
+        nameTokenIndex.setPersons(persons);
+        for (List<String> keywords : Arrays.asList(Collections.singletonList("Kurz"),
+                Arrays.asList("kunz", "best", "Elle"), Arrays.asList("PAULINE", "Bob"),
+                Collections.<String>emptyList())) {
+            Set<Person> expected = persons.stream().filter(new NameContainsKeywordsPredicate(keywords))
+                    .collect(Collectors.toSet());
+            assertEquals(expected, nameTokenIndex.getPersonsWithAnyWord(keywords), keywords.toString());
+        }
+    }
+
+    @Test
+    public void getPersonsWithAnyWord_keywordWithSpaces_returnsEmptySet() {
+        nameTokenIndex.setPersons(getTypicalPersons());
+        assertTrue(nameTokenIndex.getPersonsWithAnyWord(Arrays.asList("Alice Pauline", "")).isEmpty());
+    }
+
+    @Test
+    public void remove_personWithSharedWord_otherPersonStillFound() {
+        nameTokenIndex.add(BENSON);
+        nameTokenIndex.add(DANIEL);
+        nameTokenIndex.remove(BENSON);
+        assertEquals(Collections.singleton(DANIEL), nameTokenIndex.getPersonsWithAnyWord(Arrays.asList("Meier")));
+        assertTrue(nameTokenIndex.getPersonsWithAnyWord(Arrays.asList("Benson")).isEmpty());
+    }
+
+    @Test
+    public void add_nameWithRepeatedWord_removedCompletely() {
+        Person person = new PersonBuilder().withName("Ng Ng").build();
+        nameTokenIndex.add(person);
+        assertEquals(Collections.singleton(person), nameTokenIndex.getPersonsWithAnyWord(Arrays.asList("ng")));
+        nameTokenIndex.remove(person);
+        assertTrue(nameTokenIndex.getPersonsWithAnyWord(Arrays.asList("ng")).isEmpty());
+    }
+
+    @Test
+    public void setPersons_replacesPreviousPersons() {
+        nameTokenIndex.add(ALICE);
+        nameTokenIndex.setPersons(Collections.singletonList(BENSON));
+        assertTrue(nameTokenIndex.getPersonsWithAnyWord(Arrays.asList("Alice")).isEmpty());
+        assertEquals(Collections.singleton(BENSON), nameTokenIndex.getPersonsWithAnyWord(Arrays.asList("Benson")));
+    }
+}
@@ -0,0 +1,93 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.person.PersonSearchIndex.EXACT_MATCH_SCORE;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class PersonSearchIndexTest {
+
+    private final PersonSearchIndex searchIndex = new PersonSearchIndex();
+
+    @BeforeEach
+    public void setUp() {
+        searchIndex.setPersons(getTypicalPersons());
+    }
+
+    @Test
+    public void search_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> searchIndex.search(null, Collections.emptyList()));
+        assertThrows(NullPointerException.class, () -> searchIndex.search(PersonSearch.Mode.PREFIX, null));
+    }
+
+    @Test
+    public void search_prefixOfWords_returnsPersonsWithMatchingWords() {
+        assertEquals(Map.of(BENSON, EXACT_MATCH_SCORE - 1, DANIEL, EXACT_MATCH_SCORE - 1),
+                searchIndex.search(PersonSearch.Mode.PREFIX, Collections.singletonList("MEI")));
+    }
+
+    @Test
+    public void search_prefixOfOtherFields_returnsPersonsWithMatchingFields() {
+        // address
+        assertEquals(Map.of(CARL, EXACT_MATCH_SCORE, DANIEL, EXACT_MATCH_SCORE, GEORGE, EXACT_MATCH_SCORE),
+                searchIndex.search(PersonSearch.Mode.PREFIX, Collections.singletonList("street")));
+
+        // whole email and part of email
+        assertEquals(Map.of(ALICE, EXACT_MATCH_SCORE - 1),
+                searchIndex.search(PersonSearch.Mode.PREFIX, Collections.singletonList("alice@ex")));
+
+        // tag
+        assertEquals(Map.of(BENSON, EXACT_MATCH_SCORE - 1),
+                searchIndex.search(PersonSearch.Mode.PREFIX, Collections.singletonList("owes")));
+    }
+
+    @Test
+    public void search_multipleKeywords_scoresAdded() {
+        Map<Person, Integer> scores = searchIndex.search(PersonSearch.Mode.PREFIX, Arrays.asList("friend", "meier"));
+        assertEquals(Map.of(ALICE, 2, BENSON, 5, DANIEL, 5), scores);
+    }
+
+    @Test
+    public void search_fuzzyKeyword_scoresByEditDistance() {
+        // exact word
+        assertEquals(Map.of(ALICE, EXACT_MATCH_SCORE),
+                searchIndex.search(PersonSearch.Mode.FUZZY, Collections.singletonList("pauline")));
+
+        // one mistake in a short keyword
+        assertEquals(Map.of(ELLE, EXACT_MATCH_SCORE - 1),
+                searchIndex.search(PersonSearch.Mode.FUZZY, Collections.singletonList("Meyr")));
+
+        // two mistakes in a long keyword
+        assertEquals(Map.of(ALICE, EXACT_MATCH_SCORE - 2),
+                searchIndex.search(PersonSearch.Mode.FUZZY, Collections.singletonList("Paulnie")));
+
+        // too many mistakes
+        assertTrue(searchIndex.search(PersonSearch.Mode.FUZZY, Collections.singletonList("Pualnie")).isEmpty());
+
+        // very short keywords must match exactly
+        assertTrue(searchIndex.search(PersonSearch.Mode.FUZZY, Collections.singletonList("al")).isEmpty());
+    }
+
+    @Test
+    public void remove_person_noLongerFound() {
+        searchIndex.remove(ALICE);
+        assertTrue(searchIndex.search(PersonSearch.Mode.PREFIX, Collections.singletonList("pauline")).isEmpty());
+        assertTrue(searchIndex.search(PersonSearch.Mode.FUZZY, Collections.singletonList("pauline")).isEmpty());
+        assertEquals(Map.of(BENSON, EXACT_MATCH_SCORE, DANIEL, EXACT_MATCH_SCORE),
+                searchIndex.search(PersonSearch.Mode.FUZZY, Collections.singletonList("friends")));
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
@@ -11,8 +12,15 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PersonBuilder;
 
 public class PersonTest {
@@ -23,6 +31,29 @@ public class PersonTest {
         assertThrows(UnsupportedOperationException.class, () -> person.getTags().remove(0));
     }
 
+    @Test
+    public void getTags_sameAsGivenSet() {
+        Set<Tag> tags = new HashSet<>(Arrays.asList(new Tag("friends"), new Tag("colleagues"), new Tag("family")));
+        Person person = new PersonBuilder().build();
+        Person taggedPerson = new Person(person.getName(), person.getPhone(), person.getEmail(),
+                person.getAddress(), tags);
+        assertEquals(tags, taggedPerson.getTags());
+        assertEquals(tags.hashCode(), taggedPerson.getTags().hashCode());
+        assertEquals(new ArrayList<>(tags), new ArrayList<>(taggedPerson.getTags()));
+        assertTrue(taggedPerson.getTags().contains(new Tag("family")));
+        assertFalse(taggedPerson.getTags().contains(new Tag("husband")));
+        assertThrows(UnsupportedOperationException.class, () -> taggedPerson.getTags().add(new Tag("husband")));
+        assertThrows(UnsupportedOperationException.class, () -> taggedPerson.getTags().clear());
+    }
+
+    @Test
+    public void hashCode_equalPersons_sameHashCode() {
+        Person aliceCopy = new PersonBuilder(ALICE).build();
+        assertEquals(ALICE.hashCode(), aliceCopy.hashCode());
+        assertEquals(Objects.hash(ALICE.getName(), ALICE.getPhone(), ALICE.getEmail(), ALICE.getAddress(),
+                new HashSet<>(ALICE.getTags())), ALICE.hashCode());
+    }
+
     @Test
     public void isSamePerson() {
         // same object -> returns true
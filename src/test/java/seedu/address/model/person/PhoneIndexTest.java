@@ -0,0 +1,49 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class PhoneIndexTest {
+
+    private final PhoneIndex phoneIndex = new PhoneIndex();
+
+    @Test
+    public void getPersonsWithPhonePrefix_nullPrefix_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> phoneIndex.getPersonsWithPhonePrefix(null));
+    }
+
+    @Test
+    public void getPersonsWithPhonePrefix_prefix_matchingPersonsFound() {
+        phoneIndex.setPersons(getTypicalPersons());
+        assertEquals(new HashSet<>(Arrays.asList(ELLE, FIONA, GEORGE)), phoneIndex.getPersonsWithPhonePrefix("9482"));
+        assertEquals(new HashSet<>(Arrays.asList(FIONA)), phoneIndex.getPersonsWithPhonePrefix("9482427"));
+        assertTrue(phoneIndex.getPersonsWithPhonePrefix("948244").contains(GEORGE));
+        assertTrue(phoneIndex.getPersonsWithPhonePrefix("94822240").isEmpty());
+    }
+
+    @Test
+    public void getPersonsWithPhonePrefix_sameAsScanningPersons() {
+        List<Person> persons = getTypicalPersons();
+        phoneIndex.setPersons(persons);
+        phoneIndex.remove(ELLE);
+        for (String prefix : Arrays.asList("", "9", "94", "8", "87652533", "0")) {
+            Set<Person> expected = persons.stream()
+                    .filter(person -> person != ELLE && person.getPhone().value.startsWith(prefix))
+                    .collect(Collectors.toSet());
+            assertEquals(expected, phoneIndex.getPersonsWithPhonePrefix(prefix), prefix);
+        }
+    }
+}
@@ -8,7 +8,9 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -58,6 +60,36 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(ALICE));
     }
 
+    @Test
+    public void addAll_nullList_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePersonList.addAll(null));
+    }
+
+    @Test
+    public void addAll_newPersons_appendedInOrder() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.addAll(Arrays.asList(CARL, BOB));
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(ALICE);
+        expectedUniquePersonList.add(CARL);
+        expectedUniquePersonList.add(BOB);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertEquals(2, uniquePersonList.indexOf(BOB));
+    }
+
+    @Test
+    public void addAll_duplicatePersons_reportsCollidingNamesAndLeavesListUnchanged() {
+        uniquePersonList.add(ALICE);
+        List<Person> toAdd = Arrays.asList(BOB, new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build(), CARL,
+                BOB);
+        assertThrows(DuplicatePersonException.class, "Operation would result in duplicate persons: "
+                + ALICE.getName().fullName + ", " + BOB.getName().fullName, () -> uniquePersonList.addAll(toAdd));
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(ALICE);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(CARL));
+    }
+
     @Test
     public void setPerson_nullTargetPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPerson(null, ALICE));
@@ -102,6 +134,15 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_oldIdentityNoLongerContained() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+        assertEquals(0, uniquePersonList.indexOf(BOB));
+    }
+
     @Test
     public void setPerson_editedPersonHasNonUniqueIdentity_throwsDuplicatePersonException() {
         uniquePersonList.add(ALICE);
@@ -127,6 +168,73 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_existingPerson_shiftsPositionsOfLaterPersons() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(CARL);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertEquals(0, uniquePersonList.indexOf(BOB));
+        assertEquals(1, uniquePersonList.indexOf(CARL));
+    }
+
+    @Test
+    public void remove_personsFromMiddle_positionsOfOtherPersonsCorrect() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 4 * UniquePersonList.MAX_STALE_REMOVALS; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).build());
+        }
+        uniquePersonList.setPersons(persons);
+        List<Person> expected = new ArrayList<>(persons);
+
+        // removes every other person from the middle, which is enough removals to refresh the positions
+        for (int i = 3 * UniquePersonList.MAX_STALE_REMOVALS; i > UniquePersonList.MAX_STALE_REMOVALS; i -= 2) {
+            uniquePersonList.remove(persons.get(i));
+            expected.remove(persons.get(i));
+            if (i % 16 == 0) {
+                assertPositions(expected);
+            }
+        }
+        assertPositions(expected);
+
+        // positions stay correct through additions and edits while stale
+        uniquePersonList.remove(expected.get(1));
+        expected.remove(1);
+        Person added = new PersonBuilder().withName("Added Person").build();
+        uniquePersonList.add(added);
+        expected.add(added);
+        Person edited = new PersonBuilder(expected.get(expected.size() - 2)).withPhone("11111111").build();
+        uniquePersonList.setPerson(expected.get(expected.size() - 2), edited);
+        expected.set(expected.size() - 2, edited);
+        assertEquals(expected, uniquePersonList.asUnmodifiableObservableList());
+        assertPositions(expected);
+    }
+
+    @Test
+    public void indexOf_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePersonList.indexOf(null));
+    }
+
+    @Test
+    public void indexOf_personNotInList_returnsMinusOne() {
+        assertEquals(-1, uniquePersonList.indexOf(ALICE));
+    }
+
+    @Test
+    public void indexOf_personWithSameIdentityButDifferentFields_returnsMinusOne() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertEquals(-1, uniquePersonList.indexOf(editedAlice));
+    }
+
+    @Test
+    public void indexOf_personInList_returnsPosition() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB, CARL));
+        assertEquals(0, uniquePersonList.indexOf(ALICE));
+        assertEquals(2, uniquePersonList.indexOf(CARL));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -162,9 +270,38 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithDuplicatePersons_reportsCollidingNames() {
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, ALICE, CARL, BOB);
+        assertThrows(DuplicatePersonException.class, "Operation would result in duplicate persons: "
+                + ALICE.getName().fullName + ", " + BOB.getName().fullName, () ->
+                uniquePersonList.setPersons(listWithDuplicatePersons));
+        assertEquals(new UniquePersonList(), uniquePersonList);
+    }
+
+    @Test
+    public void setPersons_largeListOfUniquePersons_replacesOwnList() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 50000; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).build());
+        }
+        uniquePersonList.setPersons(persons);
+        assertEquals(persons, uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(49999, uniquePersonList.indexOf(persons.get(49999)));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
             -> uniquePersonList.asUnmodifiableObservableList().remove(0));
     }
+
+    /**
+     * Asserts that each person in {@code expected} is found at its position in {@code expected}.
+     */
+    private void assertPositions(List<Person> expected) {
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(i, uniquePersonList.indexOf(expected.get(i)));
+        }
+    }
 }
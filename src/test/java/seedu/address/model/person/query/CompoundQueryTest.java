@@ -0,0 +1,106 @@
+package seedu.address.model.person.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+
+/**
+ * Contains tests for {@code AndQuery}, {@code OrQuery} and {@code NotQuery}.
+ */
+public class CompoundQueryTest {
+
+    private static final FieldQuery MEIER_QUERY = new FieldQuery(FieldQuery.Field.NAME, "Meier");
+    private static final FieldQuery FRIENDS_QUERY = new FieldQuery(FieldQuery.Field.TAG, "friends");
+    private static final FieldQuery PHONE_QUERY = new FieldQuery(FieldQuery.Field.PHONE, "9");
+    private static final FieldQuery STREET_QUERY = new FieldQuery(FieldQuery.Field.ADDRESS, "street");
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+
+    @Test
+    public void andQuery_test_allQueriesMustMatch() {
+        AndQuery query = new AndQuery(Arrays.asList(MEIER_QUERY, FRIENDS_QUERY, PHONE_QUERY));
+        assertTrue(query.test(BENSON));
+        assertFalse(query.test(DANIEL)); // phone does not match
+        assertFalse(query.test(ALICE)); // name does not match
+        assertTrue(new AndQuery(Collections.emptyList()).test(CARL));
+    }
+
+    @Test
+    public void andQuery_findCandidates_smallestIndexedQueryTestedAgainstOthers() {
+        assertEquals(Optional.of(new HashSet<>(Arrays.asList(BENSON, DANIEL))),
+                new AndQuery(Arrays.asList(FRIENDS_QUERY, MEIER_QUERY)).findCandidates(addressBook));
+        assertEquals(Optional.of(Collections.singleton(DANIEL)),
+                new AndQuery(Arrays.asList(FRIENDS_QUERY, STREET_QUERY, MEIER_QUERY)).findCandidates(addressBook));
+        assertFalse(new AndQuery(Arrays.asList(STREET_QUERY, new NotQuery(MEIER_QUERY)))
+                .findCandidates(addressBook).isPresent());
+    }
+
+    @Test
+    public void estimateCandidates_indexedQueries_countsWithoutCollecting() {
+        assertEquals(OptionalInt.of(2), new AndQuery(Arrays.asList(FRIENDS_QUERY, MEIER_QUERY, STREET_QUERY))
+                .estimateCandidates(addressBook));
+        assertEquals(OptionalInt.of(5), new OrQuery(Arrays.asList(FRIENDS_QUERY, MEIER_QUERY))
+                .estimateCandidates(addressBook));
+        assertFalse(new OrQuery(Arrays.asList(FRIENDS_QUERY, STREET_QUERY))
+                .estimateCandidates(addressBook).isPresent());
+        assertFalse(new NotQuery(MEIER_QUERY).estimateCandidates(addressBook).isPresent());
+    }
+
+    @Test
+    public void hasExactCandidates_candidatesNeedNoTest() {
+        assertTrue(new AndQuery(Arrays.asList(STREET_QUERY, new NotQuery(MEIER_QUERY))).hasExactCandidates());
+        assertTrue(new OrQuery(Arrays.asList(FRIENDS_QUERY, MEIER_QUERY)).hasExactCandidates());
+        assertFalse(new OrQuery(Arrays.asList(FRIENDS_QUERY, new NotQuery(MEIER_QUERY))).hasExactCandidates());
+        assertFalse(new NotQuery(MEIER_QUERY).hasExactCandidates());
+    }
+
+    @Test
+    public void orQuery_test_anyQueryMustMatch() {
+        OrQuery query = new OrQuery(Arrays.asList(MEIER_QUERY, STREET_QUERY));
+        assertTrue(query.test(BENSON));
+        assertTrue(query.test(CARL));
+        assertFalse(query.test(ALICE));
+        assertFalse(new OrQuery(Collections.emptyList()).test(CARL));
+    }
+
+    @Test
+    public void orQuery_findCandidates_unionIfAllQueriesIndexed() {
+        assertEquals(Optional.of(new HashSet<>(Arrays.asList(ALICE, BENSON, DANIEL))),
+                new OrQuery(Arrays.asList(MEIER_QUERY, FRIENDS_QUERY)).findCandidates(addressBook));
+        assertFalse(new OrQuery(Arrays.asList(MEIER_QUERY, STREET_QUERY)).findCandidates(addressBook).isPresent());
+    }
+
+    @Test
+    public void notQuery_test_negatesQuery() {
+        NotQuery query = new NotQuery(FRIENDS_QUERY);
+        assertTrue(query.test(CARL));
+        assertFalse(query.test(ALICE));
+        assertFalse(query.findCandidates(addressBook).isPresent());
+    }
+
+    @Test
+    public void equals() {
+        AndQuery andQuery = new AndQuery(Arrays.asList(MEIER_QUERY, FRIENDS_QUERY));
+        assertTrue(andQuery.equals(new AndQuery(Arrays.asList(MEIER_QUERY, FRIENDS_QUERY))));
+        assertFalse(andQuery.equals(new AndQuery(Arrays.asList(FRIENDS_QUERY, MEIER_QUERY))));
+        assertFalse(andQuery.equals(new OrQuery(Arrays.asList(MEIER_QUERY, FRIENDS_QUERY))));
+        assertTrue(new NotQuery(MEIER_QUERY).equals(new NotQuery(MEIER_QUERY)));
+        assertFalse(new NotQuery(MEIER_QUERY).equals(MEIER_QUERY));
+        assertFalse(andQuery.equals(null));
+    }
+}
@@ -0,0 +1,88 @@
+package seedu.address.model.person.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+
+public class FieldQueryTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+
+    @Test
+    public void constructor_invalidValue_throwsIllegalArgumentException() {
+        assertThrows(NullPointerException.class, () -> new FieldQuery(FieldQuery.Field.NAME, null));
+        assertThrows(IllegalArgumentException.class, () -> new FieldQuery(FieldQuery.Field.NAME, "alice pauline"));
+        assertThrows(IllegalArgumentException.class, () -> new FieldQuery(FieldQuery.Field.TAG, "best friends"));
+    }
+
+    @Test
+    public void test_eachField_correctResult() {
+        assertTrue(new FieldQuery(FieldQuery.Field.NAME, "PAULINE").test(ALICE));
+        assertFalse(new FieldQuery(FieldQuery.Field.NAME, "Paul").test(ALICE));
+
+        assertTrue(new FieldQuery(FieldQuery.Field.PHONE, "9435").test(ALICE));
+        assertFalse(new FieldQuery(FieldQuery.Field.PHONE, "4351").test(ALICE));
+
+        assertTrue(new FieldQuery(FieldQuery.Field.EMAIL, "E@EXAMPLE").test(ALICE));
+        assertFalse(new FieldQuery(FieldQuery.Field.EMAIL, "alice@example.org").test(ALICE));
+
+        assertTrue(new FieldQuery(FieldQuery.Field.ADDRESS, "jurong").test(ALICE));
+        assertFalse(new FieldQuery(FieldQuery.Field.ADDRESS, "clementi").test(ALICE));
+
+        assertTrue(new FieldQuery(FieldQuery.Field.TAG, "friends").test(ALICE));
+        assertFalse(new FieldQuery(FieldQuery.Field.TAG, "Friends").test(ALICE));
+    }
+
+    @Test
+    public void findCandidates_indexedFields_matchingPersonsFound() {
+        assertEquals(Optional.of(new HashSet<>(Arrays.asList(BENSON, DANIEL))),
+                new FieldQuery(FieldQuery.Field.NAME, "meier").findCandidates(addressBook));
+        assertEquals(Optional.of(new HashSet<>(Arrays.asList(ELLE, FIONA, GEORGE))),
+                new FieldQuery(FieldQuery.Field.PHONE, "9482").findCandidates(addressBook));
+        assertEquals(Optional.of(new HashSet<>(Arrays.asList(ALICE, BENSON, DANIEL))),
+                new FieldQuery(FieldQuery.Field.TAG, "friends").findCandidates(addressBook));
+    }
+
+    @Test
+    public void estimateCandidates_indexedFields_matchingPersonsCounted() {
+        assertEquals(OptionalInt.of(2), new FieldQuery(FieldQuery.Field.NAME, "meier").estimateCandidates(addressBook));
+        assertEquals(OptionalInt.of(3), new FieldQuery(FieldQuery.Field.PHONE, "9482").estimateCandidates(addressBook));
+        assertEquals(OptionalInt.of(0), new FieldQuery(FieldQuery.Field.PHONE, "0").estimateCandidates(addressBook));
+        assertEquals(OptionalInt.of(3),
+                new FieldQuery(FieldQuery.Field.TAG, "friends").estimateCandidates(addressBook));
+        assertFalse(new FieldQuery(FieldQuery.Field.EMAIL, "alice").estimateCandidates(addressBook).isPresent());
+    }
+
+    @Test
+    public void findCandidates_unindexedFields_returnsEmptyOptional() {
+        assertFalse(new FieldQuery(FieldQuery.Field.EMAIL, "alice").findCandidates(addressBook).isPresent());
+        assertFalse(new FieldQuery(FieldQuery.Field.ADDRESS, "ave").findCandidates(addressBook).isPresent());
+    }
+
+    @Test
+    public void equals() {
+        FieldQuery query = new FieldQuery(FieldQuery.Field.EMAIL, "alice");
+        assertTrue(query.equals(query));
+        assertTrue(query.equals(new FieldQuery(FieldQuery.Field.EMAIL, "alice")));
+        assertFalse(query.equals(new FieldQuery(FieldQuery.Field.ADDRESS, "alice")));
+        assertFalse(query.equals(new FieldQuery(FieldQuery.Field.EMAIL, "bob")));
+        assertFalse(query.equals(null));
+    }
+}
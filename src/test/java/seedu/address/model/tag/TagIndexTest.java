@@ -0,0 +1,77 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+
+public class TagIndexTest {
+
+    private final TagIndex tagIndex = new TagIndex();
+
+    @Test
+    public void getPersonsWithTag_nullTag_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> tagIndex.getPersonsWithTag(null));
+    }
+
+    @Test
+    public void getPersonsWithTag_taggedPersonsFound() {
+        tagIndex.setPersons(getTypicalPersons());
+        assertEquals(new HashSet<>(Arrays.asList(ALICE, BENSON, DANIEL)),
+                tagIndex.getPersonsWithTag(new Tag("friends")));
+        assertEquals(Collections.singleton(BENSON), tagIndex.getPersonsWithTag(new Tag("owesMoney")));
+        assertTrue(tagIndex.getPersonsWithTag(new Tag("colleagues")).isEmpty());
+    }
+
+    @Test
+    public void getPersonsWithAllTags_personsWithEveryTagFound() {
+        tagIndex.setPersons(getTypicalPersons());
+        assertEquals(Collections.singleton(BENSON),
+                tagIndex.getPersonsWithAllTags(Arrays.asList(new Tag("friends"), new Tag("owesMoney"))));
+        assertEquals(new HashSet<>(Arrays.asList(ALICE, BENSON, DANIEL)),
+                tagIndex.getPersonsWithAllTags(Collections.emptyList()));
+        assertTrue(tagIndex.getPersonsWithAllTags(Arrays.asList(new Tag("friends"), new Tag("colleagues"))).isEmpty());
+    }
+
+    @Test
+    public void getTagCounts_countsOfTagsInUse() {
+        tagIndex.setPersons(getTypicalPersons());
+        tagIndex.remove(ALICE);
+        Map<Tag, Integer> expected = new HashMap<>();
+        expected.put(new Tag("friends"), 2);
+        expected.put(new Tag("owesMoney"), 1);
+        assertEquals(expected, tagIndex.getTagCounts());
+    }
+
+    @Test
+    public void getPersonsWithTag_indexChangedAfterwards_returnedSetUnchanged() {
+        tagIndex.add(BENSON);
+        Set<Person> friends = tagIndex.getPersonsWithTag(new Tag("friends"));
+        tagIndex.add(ALICE);
+        tagIndex.remove(BENSON);
+        assertEquals(Collections.singleton(BENSON), friends);
+        assertEquals(1, tagIndex.countPersonsWithTag(new Tag("friends")));
+    }
+
+    @Test
+    public void remove_lastTaggedPerson_tagRemoved() {
+        tagIndex.add(BENSON);
+        tagIndex.remove(BENSON);
+        assertTrue(tagIndex.getPersonsWithTag(new Tag("owesMoney")).isEmpty());
+        assertEquals(0, tagIndex.countPersonsWithTag(new Tag("owesMoney")));
+    }
+}
@@ -11,13 +11,18 @@ import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.PersonBuilder;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -86,6 +91,76 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_typicalAddressBook_sameFormatAsJsonSerializableAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(original)),
+                FileUtil.readFromFile(filePath));
+    }
+
+    @Test
+    public void readAddressBook_unknownFields_ignored() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        FileUtil.writeToFile(filePath, "{ \"version\" : { \"major\" : 1 }, "
+                + "\"persons\" : [ { \"name\" : \"Alice Pauline\", "
+                + "\"phone\" : \"94351253\", \"email\" : \"alice@example.com\", \"nickname\" : [ \"Al\" ], "
+                + "\"address\" : \"123, Jurong West Ave 6, #08-111\", \"tagged\" : [ \"friends\" ] } ] }");
+
+        AddressBook expected = new AddressBook();
+        expected.addPerson(ALICE);
+        assertEquals(expected, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_noPersonsField_emptyAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        FileUtil.writeToFile(filePath, "{ }");
+        assertEquals(new AddressBook(), new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(getTypicalAddressBook());
+        String content = FileUtil.readFromFile(filePath);
+        FileUtil.writeToFile(filePath, content.substring(0, content.length() / 2));
+
+        assertThrows(DataConversionException.class, () -> jsonAddressBookStorage.readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_severalReadChunks_allPersonsInOrder() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        List<JsonAdaptedPerson> persons = getAdaptedPersons(JsonAddressBookStorage.READ_CHUNK_SIZE * 2 + 1);
+        JsonSerializableAddressBook expected = new JsonSerializableAddressBook(persons);
+        JsonUtil.saveJsonFile(expected, filePath);
+
+        assertEquals(expected.toModelType(), new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_duplicateInLaterReadChunk_throwDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        List<JsonAdaptedPerson> persons = getAdaptedPersons(JsonAddressBookStorage.READ_CHUNK_SIZE * 2);
+        persons.set(JsonAddressBookStorage.READ_CHUNK_SIZE + 1, persons.get(0));
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(persons), filePath);
+
+        assertThrows(DataConversionException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
+    private static List<JsonAdaptedPerson> getAdaptedPersons(int count) {
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            persons.add(new JsonAdaptedPerson("Person " + i, PersonBuilder.DEFAULT_PHONE, PersonBuilder.DEFAULT_EMAIL,
+                    PersonBuilder.DEFAULT_ADDRESS, null));
+        }
+        return persons;
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -5,12 +5,17 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -19,6 +24,7 @@ public class JsonSerializableAddressBookTest {
     private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+    private static final int LARGE_LIST_SIZE = JsonSerializableAddressBook.CONVERSION_CHUNK_SIZE * 20;
 
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
@@ -44,4 +50,53 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_largeListInParallel_sameAsSingleThreaded() throws Exception {
+        JsonSerializableAddressBook largeAddressBook = new JsonSerializableAddressBook(getLargeAdaptedPersonList());
+        ForkJoinPool singleThreadPool = new ForkJoinPool(1);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            AddressBook expected = largeAddressBook.toModelType(singleThreadPool);
+            assertEquals(expected, largeAddressBook.toModelType(pool));
+            assertEquals(expected.getPersonList().size(), LARGE_LIST_SIZE);
+        } finally {
+            singleThreadPool.shutdown();
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void toModelType_invalidPersonBeforeDuplicate_reportsInvalidPerson() {
+        List<JsonAdaptedPerson> persons = getLargeAdaptedPersonList();
+        persons.set(LARGE_LIST_SIZE / 2, getAdaptedPerson("Person 0"));
+        persons.set(LARGE_LIST_SIZE / 3, getAdaptedPerson("R@chel"));
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, () ->
+                new JsonSerializableAddressBook(persons).toModelType());
+    }
+
+    @Test
+    public void toModelType_duplicateBeforeInvalidPerson_reportsDuplicate() {
+        List<JsonAdaptedPerson> persons = getLargeAdaptedPersonList();
+        persons.set(LARGE_LIST_SIZE / 3, getAdaptedPerson("Person 0"));
+        persons.set(LARGE_LIST_SIZE - 1, getAdaptedPerson("R@chel"));
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                new JsonSerializableAddressBook(persons).toModelType());
+    }
+
+    private static JsonAdaptedPerson getAdaptedPerson(String name) {
+        return new JsonAdaptedPerson(name, PersonBuilder.DEFAULT_PHONE, PersonBuilder.DEFAULT_EMAIL,
+                PersonBuilder.DEFAULT_ADDRESS, null);
+    }
+
+    /**
+     * Returns adapted persons with distinct names, spanning many conversion chunks.
+     */
+    private static List<JsonAdaptedPerson> getLargeAdaptedPersonList() {
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        for (int i = 0; i < LARGE_LIST_SIZE; i++) {
+            persons.add(getAdaptedPerson("Person " + i));
+        }
+        return persons;
+    }
+
 }
@@ -0,0 +1,98 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.person.Person;
+import seedu.address.storage.PersonListExporter.Format;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonListExporterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private PersonListExporter exporter = new PersonListExporter(Runnable::run);
+
+    @Test
+    public void getFormat() {
+        assertEquals(Optional.of(Format.CSV), PersonListExporter.getFormat(Paths.get("data", "friends.CSV")));
+        assertEquals(Optional.of(Format.JSON_LINES), PersonListExporter.getFormat(Paths.get("friends.jsonl")));
+        assertEquals(Optional.of(Format.JSON_LINES), PersonListExporter.getFormat(Paths.get("friends.ndjson")));
+        assertEquals(Optional.empty(), PersonListExporter.getFormat(Paths.get("friends.json")));
+        assertThrows(NullPointerException.class, () -> PersonListExporter.getFormat(null));
+    }
+
+    @Test
+    public void export_csv_fieldsQuotedWhereNeeded() throws Exception {
+        Path file = testFolder.resolve("persons.csv");
+        Person quoted = new PersonBuilder(CARL).withName("Carl Kurz Jr").withAddress("\"The Quarry\", wall street")
+                .build();
+        long bytesWritten = PersonListExporter.export(Arrays.asList(ALICE, CARL, quoted), file, Format.CSV);
+
+        List<String> expectedLines = Arrays.asList(PersonListExporter.CSV_HEADER,
+                "Alice Pauline,94351253,alice@example.com,\"123, Jurong West Ave 6, #08-111\",friends",
+                "Carl Kurz,95352563,heinz@example.com,wall street,",
+                "Carl Kurz Jr,95352563,heinz@example.com,\"\"\"The Quarry\"\", wall street\",");
+        assertEquals(expectedLines, Files.readAllLines(file));
+        assertEquals(Files.size(file), bytesWritten);
+    }
+
+    @Test
+    public void export_jsonLines_onePersonPerLine() throws Exception {
+        Path file = testFolder.resolve("persons.jsonl");
+        List<Person> persons = getTypicalPersons();
+        PersonListExporter.export(persons, file, Format.JSON_LINES);
+
+        List<String> lines = Files.readAllLines(file);
+        List<Person> exportedPersons = new ArrayList<>();
+        for (String line : lines) {
+            exportedPersons.add(JsonUtil.fromJsonString(line, JsonAdaptedPerson.class).toModelType());
+        }
+        assertEquals(persons, exportedPersons);
+    }
+
+    @Test
+    public void export_manyPersons_allWritten() throws Exception {
+        Path file = testFolder.resolve("persons.jsonl");
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 20000; i++) {
+            persons.add(new PersonBuilder(ALICE).withName("Person " + i).build());
+        }
+        PersonListExporter.export(persons, file, Format.JSON_LINES);
+        try (Stream<String> lines = Files.lines(file)) {
+            assertEquals(persons.size(), lines.count());
+        }
+    }
+
+    @Test
+    public void exportInBackground_validFile_bytesWrittenReported() throws Exception {
+        Path file = testFolder.resolve("persons.csv");
+        long bytesWritten = exporter.exportInBackground(getTypicalPersons(), file, Format.CSV).get();
+        assertEquals(Files.size(file), bytesWritten);
+    }
+
+    @Test
+    public void exportInBackground_unwritableFile_completesExceptionally() {
+        Path file = testFolder.resolve("missing").resolve("persons.csv");
+        assertThrows(CompletionException.class, () ->
+                exporter.exportInBackground(getTypicalPersons(), file, Format.CSV).join());
+    }
+}
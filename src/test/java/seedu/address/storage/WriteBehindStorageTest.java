@@ -0,0 +1,227 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class WriteBehindStorageTest {
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy exception");
+
+    @TempDir
+    public Path testFolder;
+
+    private StorageManager getStorageManager() {
+        return new StorageManager(new JsonAddressBookStorage(testFolder.resolve("ab")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs")));
+    }
+
+    @Test
+    public void constructor_nullStorage_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new WriteBehindStorage(null));
+    }
+
+    @Test
+    public void saveAddressBook_thenFlush_addressBookWritten() throws Exception {
+        WriteBehindStorage storage = new WriteBehindStorage(getStorageManager());
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        storage.flush();
+
+        assertEquals(original, new AddressBook(getStorageManager().readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_modifiedAfterSave_snapshotWritten() throws Exception {
+        BlockingStorageStub blockingStorage = new BlockingStorageStub();
+        WriteBehindStorage storage = new WriteBehindStorage(blockingStorage);
+        AddressBook original = getTypicalAddressBook();
+        AddressBook expected = new AddressBook(original);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+
+        blockingStorage.unblock();
+        storage.flush();
+        assertEquals(expected, new AddressBook(blockingStorage.written.get(0)));
+    }
+
+    @Test
+    public void saveAddressBook_savesDuringWrite_coalescedIntoLatest() throws Exception {
+        BlockingStorageStub blockingStorage = new BlockingStorageStub();
+        WriteBehindStorage storage = new WriteBehindStorage(blockingStorage);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        blockingStorage.awaitWriteStarted();
+
+        // the writer is busy with the first save, so these two are coalesced
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+
+        blockingStorage.unblock();
+        storage.flush();
+        assertEquals(2, blockingStorage.written.size());
+        assertEquals(original, new AddressBook(blockingStorage.written.get(1)));
+        assertEquals(1, storage.getCoalescedSaves());
+    }
+
+    @Test
+    public void saveAddressBookInBackground_writeFailsOnce_retriedAndCompleted() throws Exception {
+        FailingStorageStub failingStorage = new FailingStorageStub(1);
+        WriteBehindStorage storage = new WriteBehindStorage(failingStorage);
+        AddressBook original = getTypicalAddressBook();
+
+        assertNull(storage.saveAddressBookInBackground(original).get());
+        assertEquals(original, new AddressBook(failingStorage.written.get(0)));
+        storage.flush();
+    }
+
+    @Test
+    public void saveAddressBookInBackground_writeKeepsFailing_completesExceptionally() throws Exception {
+        FailingStorageStub failingStorage = new FailingStorageStub(WriteBehindStorage.MAX_WRITE_ATTEMPTS);
+        WriteBehindStorage storage = new WriteBehindStorage(failingStorage);
+        CompletableFuture<Void> saved = storage.saveAddressBookInBackground(getTypicalAddressBook());
+
+        assertThrows(ExecutionException.class, DUMMY_IO_EXCEPTION.toString(), saved::get);
+        assertEquals(0, failingStorage.written.size());
+    }
+
+    @Test
+    public void flush_previousWriteFailed_snapshotWrittenAgain() throws Exception {
+        FailingStorageStub failingStorage = new FailingStorageStub(WriteBehindStorage.MAX_WRITE_ATTEMPTS);
+        WriteBehindStorage storage = new WriteBehindStorage(failingStorage);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        storage.flush();
+        assertEquals(original, new AddressBook(failingStorage.written.get(0)));
+    }
+
+    @Test
+    public void flush_writeKeepsFailing_throwsIoExceptionUntilWritten() throws Exception {
+        FailingStorageStub failingStorage = new FailingStorageStub(WriteBehindStorage.MAX_WRITE_ATTEMPTS + 1);
+        WriteBehindStorage storage = new WriteBehindStorage(failingStorage);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), storage::flush);
+        storage.flush();
+        assertEquals(1, failingStorage.written.size());
+    }
+
+    @Test
+    public void saveAddressBookInBackground_writeFailsBeforeLaterSave_completedWithLaterSave() throws Exception {
+        BlockingStorageStub blockingStorage = new BlockingStorageStub(1);
+        WriteBehindStorage storage = new WriteBehindStorage(blockingStorage);
+        AddressBook original = getTypicalAddressBook();
+        CompletableFuture<Void> firstSaved = storage.saveAddressBookInBackground(original);
+        blockingStorage.awaitWriteStarted();
+
+        // the first write fails while a later snapshot is pending, so it is not retried
+        original.addPerson(HOON);
+        CompletableFuture<Void> secondSaved = storage.saveAddressBookInBackground(original);
+        blockingStorage.unblock();
+
+        assertNull(firstSaved.get());
+        assertNull(secondSaved.get());
+        assertEquals(1, blockingStorage.written.size());
+        assertEquals(original, new AddressBook(blockingStorage.written.get(0)));
+        storage.flush();
+    }
+
+    @Test
+    public void saveAddressBook_withFilePath_writtenImmediately() throws Exception {
+        WriteBehindStorage storage = new WriteBehindStorage(getStorageManager());
+        Path filePath = testFolder.resolve("other");
+        AddressBook original = new AddressBook();
+        original.addPerson(ALICE);
+        storage.saveAddressBook(original, filePath);
+
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    /**
+     * A {@code StorageManager} stub that records the address books written, and blocks writing until unblocked.
+     * The first writes can be made to fail once unblocked.
+     */
+    private class BlockingStorageStub extends StorageManager {
+        private final List<ReadOnlyAddressBook> written = new ArrayList<>();
+        private final CountDownLatch writeStarted = new CountDownLatch(1);
+        private final CountDownLatch unblocked = new CountDownLatch(1);
+        private int failuresLeft;
+
+        private BlockingStorageStub() {
+            this(0);
+        }
+
+        private BlockingStorageStub(int failures) {
+            super(new JsonAddressBookStorage(testFolder.resolve("ab")),
+                    new JsonUserPrefsStorage(testFolder.resolve("prefs")));
+            failuresLeft = failures;
+        }
+
+        private void awaitWriteStarted() throws InterruptedException {
+            writeStarted.await();
+        }
+
+        private void unblock() {
+            unblocked.countDown();
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            writeStarted.countDown();
+            try {
+                unblocked.await();
+            } catch (InterruptedException ie) {
+                throw new AssertionError(ie);
+            }
+            if (failuresLeft > 0) {
+                failuresLeft--;
+                throw DUMMY_IO_EXCEPTION;
+            }
+            written.add(addressBook);
+        }
+    }
+
+    /**
+     * A {@code StorageManager} stub that records the address books written, and throws an {@code IOException}
+     * instead of writing for the first few saves.
+     */
+    private class FailingStorageStub extends StorageManager {
+        private final List<ReadOnlyAddressBook> written = new ArrayList<>();
+        private int failuresLeft;
+
+        private FailingStorageStub(int failures) {
+            super(new JsonAddressBookStorage(testFolder.resolve("ab")),
+                    new JsonUserPrefsStorage(testFolder.resolve("prefs")));
+            failuresLeft = failures;
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            if (failuresLeft > 0) {
+                failuresLeft--;
+                throw DUMMY_IO_EXCEPTION;
+            }
+            written.add(addressBook);
+        }
+    }
+}
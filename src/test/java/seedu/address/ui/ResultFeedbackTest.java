@@ -0,0 +1,82 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.model.ModelManager;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.PersonListExporter;
+import seedu.address.storage.StorageManager;
+
+public class ResultFeedbackTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private ResultFeedback feedback = new ResultFeedback();
+
+    @Test
+    public void addBackgroundFeedback_commandStillShown_appended() {
+        long commandNumber = feedback.setFeedback("Exporting");
+        feedback.addBackgroundFeedback(commandNumber, "export a.csv", "Exported");
+        assertEquals("Exporting\nExported", feedback.getText());
+    }
+
+    @Test
+    public void addBackgroundFeedback_laterCommandShown_namesEarlierCommand() {
+        long commandNumber = feedback.setFeedback("Exporting");
+        feedback.setFeedback("Listed");
+        feedback.addBackgroundFeedback(commandNumber, "export a.csv", "Exported");
+        assertEquals("Listed\n" + String.format(ResultFeedback.MESSAGE_EARLIER_COMMAND, "export a.csv", "Exported"),
+                feedback.getText());
+    }
+
+    @Test
+    public void execute_secondCommandBeforeExportCompletes_exportFeedbackNamesExport() throws Exception {
+        List<Runnable> pendingExports = new ArrayList<>();
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        Logic logic = new LogicManager(new ModelManager(), storage,
+                new AddressBookParser(new PersonListExporter(pendingExports::add)));
+
+        Path file = temporaryFolder.resolve("persons.csv");
+        String exportCommandText = ExportCommand.COMMAND_WORD + " " + file;
+        dispatch(logic, exportCommandText);
+        dispatch(logic, ListCommand.COMMAND_WORD);
+        pendingExports.forEach(Runnable::run);
+
+        String[] lines = feedback.getText().split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(ListCommand.MESSAGE_SUCCESS, lines[0]);
+        String expectedPrefix = String.format(ResultFeedback.MESSAGE_EARLIER_COMMAND, exportCommandText,
+                String.format("Exported 0 persons to %1$s: %2$d bytes in ", file, Files.size(file)));
+        assertTrue(lines[1].startsWith(expectedPrefix), lines[1]);
+    }
+
+    /**
+     * Executes {@code commandText} and shows its feedback as the main window does.
+     */
+    private void dispatch(Logic logic, String commandText) throws Exception {
+        CommandResult result = logic.execute(commandText);
+        long commandNumber = feedback.setFeedback(result.getFeedbackToUser());
+        result.getBackgroundFeedback().thenAccept((Optional<String> moreFeedback) -> moreFeedback.ifPresent(text ->
+                feedback.addBackgroundFeedback(commandNumber, commandText, text)));
+    }
+}